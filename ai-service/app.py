@@ -1,10 +1,12 @@
-from fastapi import FastAPI, File, UploadFile, HTTPException
+from fastapi import FastAPI, File, Form, UploadFile, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
 from fastapi.responses import JSONResponse
 import uvicorn
 import os
 import shutil
+import uuid
 from pathlib import Path
+from typing import List, Optional
 from fraud_detector import FraudDetector
 from image_processor import ImageProcessor
 from metadata_analyzer import MetadataAnalyzer
@@ -314,6 +316,93 @@ async def analyze_relevance(request: dict):
 
 
 
+@app.post("/api/analyze-documents-batch")
+async def analyze_documents_batch(
+    images: List[UploadFile] = File(...),
+    claim_type: Optional[str] = Form(None)
+):
+    """
+    Classify and OCR all documents of a claim in one request
+    
+    Each image is classified, then OCR'd with its predicted document type,
+    exactly as /api/classify-evidence followed by /api/extract-ocr would.
+    A failure on one image is reported on that entry and does not fail the
+    batch.
+    
+    Form Fields:
+        - images: One or more document images
+        - claim_type: Optional claim type; when given, relevance is analyzed
+          over all successfully processed documents as well
+    
+    Returns:
+        - documents: One entry per image, in upload order, with index,
+          filename, classification, ocr and (on failure) error
+        - relevance: Same shape as /api/analyze-relevance (only with claim_type)
+    """
+    results = []
+    
+    for index, image in enumerate(images):
+        entry = {"index": index, "filename": image.filename}
+        temp_file_path = None
+        
+        try:
+            # Validate file type
+            if not image.content_type or not image.content_type.startswith('image/'):
+                entry["error"] = "Invalid file type. Only images are accepted."
+                continue
+            
+            # Unique name: a claim may hold several files with the same name
+            temp_file_path = UPLOAD_DIR / f"batch_{uuid.uuid4().hex}_{Path(image.filename or 'upload').name}"
+            with open(temp_file_path, "wb") as buffer:
+                shutil.copyfileobj(image.file, buffer)
+            
+            classification = evidence_classifier.classify_document(str(temp_file_path))
+            entry["classification"] = classification
+            entry["ocr"] = ocr_extractor.extract_fields(
+                str(temp_file_path),
+                classification.get("documentType", "UNKNOWN")
+            )
+            
+        except Exception as e:
+            entry["error"] = f"Error analyzing document: {str(e)}"
+        finally:
+            results.append(entry)
+            # Clean up temporary file
+            if temp_file_path and temp_file_path.exists():
+                try:
+                    os.remove(temp_file_path)
+                except:
+                    pass
+    
+    response = {"documents": results, "success": True}
+    
+    if claim_type:
+        documents = [
+            {
+                "documentType": entry["classification"].get("documentType", "UNKNOWN"),
+                "confidence": entry["classification"].get("confidence", 0),
+                "extractedFields": entry.get("ocr", {}).get("extractedFields", {})
+            }
+            for entry in results if "classification" in entry
+        ]
+        try:
+            if documents:
+                response["relevance"] = relevance_analyzer.analyze_relevance(claim_type, documents)
+            else:
+                response["relevance"] = {
+                    "relevanceScore": 0,
+                    "consistencyScore": 0,
+                    "warnings": ["No documents provided for analysis"],
+                    "recommendations": ["Upload required documents for this claim type"],
+                    "success": True
+                }
+        except Exception as e:
+            # Classification and OCR are still usable; the caller can retry relevance alone
+            response["relevanceError"] = f"Error analyzing relevance: {str(e)}"
+    
+    return JSONResponse(status_code=200, content=response)
+
+
 @app.post("/api/fraud/verify")
 async def verify_fraud(image: UploadFile = File(...)):
     """
@@ -0,0 +1,146 @@
+"""
+Lightweight stand-in for the AI service, for local and integration testing.
+
+Serves the same endpoints as app.py on the same port with fixed, plausible
+responses, without loading any model or third-party package. Every request
+is counted; GET /stub/counts returns the counts per path and
+POST /stub/reset clears them.
+
+Usage:
+    python stub_server.py [--port 5000] [--delay 0.0]
+"""
+import argparse
+import email
+import email.policy
+import json
+import threading
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+CLASSIFICATION = {
+    "documentType": "DAMAGE_PHOTO",
+    "displayName": "Damage Photo",
+    "confidence": 90,
+    "features": ["stub"],
+}
+OCR = {
+    "extractedFields": {"amount": "1000.00"},
+    "confidence": 80,
+    "missingFields": [],
+    "validationWarnings": [],
+}
+RELEVANCE = {
+    "relevanceScore": 85,
+    "consistencyScore": 85,
+    "warnings": [],
+    "recommendations": [],
+    "success": True,
+}
+FRAUD = {
+    "imageStatus": "GENUINE",
+    "fraudScore": 20,
+    "confidence": 90,
+    "remarks": "Stub analysis",
+}
+
+counts = {}
+counts_lock = threading.Lock()
+
+
+def multipart_files(content_type, body):
+    """Return (field name, filename) of every file part in a multipart body."""
+    message = email.message_from_bytes(
+        b"Content-Type: " + content_type.encode() + b"\r\n\r\n" + body,
+        policy=email.policy.HTTP,
+    )
+    return [
+        (part.get_param("name", header="content-disposition"), part.get_filename())
+        for part in message.iter_parts()
+        if part.get_filename() is not None
+    ]
+
+
+class StubHandler(BaseHTTPRequestHandler):
+    delay = 0.0
+
+    def log_message(self, *args):
+        pass
+
+    def send_json(self, payload, status=200):
+        body = json.dumps(payload).encode()
+        self.send_response(status)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def read_body(self):
+        # Spring's RestTemplate streams multipart bodies with chunked encoding
+        if self.headers.get("Transfer-Encoding", "").lower() == "chunked":
+            body = b""
+            while True:
+                size = int(self.rfile.readline().split(b";", 1)[0], 16)
+                if size == 0:
+                    self.rfile.readline()
+                    return body
+                body += self.rfile.read(size)
+                self.rfile.readline()
+        return self.rfile.read(int(self.headers.get("Content-Length") or 0))
+
+    def count(self):
+        path = self.path.split("?", 1)[0]
+        with counts_lock:
+            counts[path] = counts.get(path, 0) + 1
+        return path
+
+    def do_GET(self):
+        path = self.count()
+        if path == "/stub/counts":
+            with counts_lock:
+                return self.send_json(dict(counts))
+        if path == "/health":
+            return self.send_json({"status": "healthy", "service": "fraud-detection-ai-stub"})
+        self.send_json({"detail": "Not Found"}, 404)
+
+    def do_POST(self):
+        path = self.count()
+        body = self.read_body()
+        if path == "/stub/reset":
+            with counts_lock:
+                counts.clear()
+            return self.send_json({"success": True})
+
+        time.sleep(self.delay)
+        if path == "/api/classify-evidence":
+            return self.send_json(CLASSIFICATION)
+        if path == "/api/extract-ocr":
+            return self.send_json(OCR)
+        if path == "/api/analyze-relevance":
+            return self.send_json(RELEVANCE)
+        if path in ("/api/analyze", "/api/fraud/verify"):
+            return self.send_json(FRAUD)
+        if path == "/api/analyze-documents-batch":
+            return self.analyze_documents_batch(body)
+        self.send_json({"detail": "Not Found"}, 404)
+
+    def analyze_documents_batch(self, body):
+        files = multipart_files(self.headers.get("Content-Type", ""), body)
+        documents = [
+            {"index": index, "filename": filename, "classification": CLASSIFICATION, "ocr": OCR}
+            for index, (name, filename) in enumerate(f for f in files if f[0] == "images")
+        ]
+        response = {"documents": documents, "success": True}
+        if b'name="claim_type"' in body:
+            response["relevance"] = RELEVANCE
+        self.send_json(response)
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser(description="AI service stub")
+    parser.add_argument("--port", type=int, default=5000)
+    parser.add_argument("--delay", type=float, default=0.0, help="seconds to sleep per AI call")
+    args = parser.parse_args()
+
+    StubHandler.delay = args.delay
+    print(f"AI service stub listening on http://localhost:{args.port}")
+    ThreadingHTTPServer(("0.0.0.0", args.port), StubHandler).serve_forever()
@@ -4,12 +4,14 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.ClaimType;
 import com.examly.springapp.repository.UserRepository;
 import com.examly.springapp.repository.ClaimTypeRepository;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringappApplication {
 
 	public static void main(String[] args) {
@@ -6,6 +6,7 @@ import com.examly.springapp.dto.RegisterRequest;
 import com.examly.springapp.model.User;
 import com.examly.springapp.repository.UserRepository;
 import com.examly.springapp.security.JwtUtils;
+import com.examly.springapp.service.ClaimStatsService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -39,6 +40,9 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    ClaimStatsService claimStatsService;
+
     /**
      * POST /api/auth/login
      * Authenticates the user and returns a JWT token plus user profile.
@@ -118,6 +122,7 @@ public class AuthController {
         user.setPolicyNumber("POL-" + datePart + "-" + randomPart);
 
         userRepository.save(user);
+        claimStatsService.recordUserRegistered(user.getRole());
 
         // Return a structured success response (no password, no role that could be
         // confused)
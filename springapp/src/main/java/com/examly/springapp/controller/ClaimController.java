@@ -1,21 +1,28 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.BulkClaimRequest;
+import com.examly.springapp.dto.ClaimDetailsDTO;
 import com.examly.springapp.dto.ClaimRequest;
 import com.examly.springapp.dto.ClaimStatusUpdateRequest;
+import com.examly.springapp.dto.ClaimSummaryDTO;
 import com.examly.springapp.model.Claim;
-import com.examly.springapp.model.User;
-import com.examly.springapp.repository.UserRepository;
+import com.examly.springapp.service.ClaimExportService;
+import com.examly.springapp.service.ClaimSearchService;
 import com.examly.springapp.service.ClaimService;
+import com.examly.springapp.service.ClaimStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @CrossOrigin(origins = "*")
 @RestController
@@ -25,7 +32,13 @@ public class ClaimController {
     private ClaimService claimService;
 
     @Autowired
-    private UserRepository userRepository;
+    private ClaimStatsService claimStatsService;
+
+    @Autowired
+    private ClaimExportService claimExportService;
+
+    @Autowired
+    private ClaimSearchService claimSearchService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('AGENT')")
@@ -37,7 +50,13 @@ public class ClaimController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String claimType,
             @RequestParam(required = false) Double minAmount,
-            @RequestParam(required = false) Double maxAmount) {
+            @RequestParam(required = false) Double maxAmount,
+            @RequestParam(required = false) String cursor) {
+        // Presence of "cursor" (empty for the first page) switches to keyset paging
+        if (cursor != null) {
+            return ResponseEntity.ok(claimService.getClaimsByCursor(
+                    cursor, size, sortBy, sortDir, status, claimType, minAmount, maxAmount));
+        }
         return ResponseEntity.ok(claimService.getAllClaimsWithFilters(
                 page, size, sortBy, sortDir, status, claimType, minAmount, maxAmount));
     }
@@ -49,85 +68,101 @@ public class ClaimController {
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getAdminStats() {
-        // Fetch all claims (unpaged) for stats computation
-        List<Claim> allClaims = claimService.getAllClaimsUnpaged();
-
-        long totalClaims = allClaims.size();
-        double totalAmount = allClaims.stream().mapToDouble(c -> c.getAmount() != null ? c.getAmount() : 0).sum();
-
-        // Claims by status
-        Map<String, Long> byStatus = allClaims.stream()
-                .collect(Collectors.groupingBy(
-                        c -> c.getStatus() != null ? c.getStatus().name() : "UNKNOWN",
-                        Collectors.counting()));
-
-        // Claims by type
-        Map<String, Long> byType = allClaims.stream()
-                .filter(c -> c.getClaimType() != null && c.getClaimType().getName() != null)
-                .collect(Collectors.groupingBy(
-                        c -> c.getClaimType().getName(),
-                        Collectors.counting()));
-
-        // User stats
-        List<User> allUsers = userRepository.findAll();
-        long totalUsers = allUsers.size();
-        long totalCustomers = allUsers.stream().filter(u -> u.getRole() == User.UserRole.CUSTOMER).count();
-        long totalAgents = allUsers.stream().filter(u -> u.getRole() == User.UserRole.AGENT).count();
-        long totalAdmins = allUsers.stream().filter(u -> u.getRole() == User.UserRole.ADMIN).count();
-
-        // Recent claims (latest 5, sorted by submission date)
-        List<Map<String, Object>> recentClaims = allClaims.stream()
-                .sorted((a, b) -> {
-                    if (a.getSubmissionDate() == null)
-                        return 1;
-                    if (b.getSubmissionDate() == null)
-                        return -1;
-                    return b.getSubmissionDate().compareTo(a.getSubmissionDate());
-                })
-                .limit(5)
-                .map(c -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("id", c.getId());
-                    m.put("policyNumber", c.getPolicyNumber());
-                    m.put("status", c.getStatus() != null ? c.getStatus().name() : "UNKNOWN");
-                    m.put("amount", c.getAmount());
-                    m.put("claimType", c.getClaimType() != null ? c.getClaimType().getName() : "-");
-                    m.put("submissionDate", c.getSubmissionDate() != null ? c.getSubmissionDate().toString() : "-");
-                    return m;
-                })
-                .collect(Collectors.toList());
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalClaims", totalClaims);
-        stats.put("totalAmount", totalAmount);
-        stats.put("byStatus", byStatus);
-        stats.put("byType", byType);
-        stats.put("totalUsers", totalUsers);
-        stats.put("totalCustomers", totalCustomers);
-        stats.put("totalAgents", totalAgents);
-        stats.put("totalAdmins", totalAdmins);
-        stats.put("recentClaims", recentClaims);
-
-        return ResponseEntity.ok(stats);
+        // Served from the incrementally maintained snapshot — no table scans
+        return ResponseEntity.ok(claimStatsService.getSnapshot());
+    }
+
+    /**
+     * GET /api/claims/export?format=csv|ndjson
+     * Streams every claim straight from a database cursor to the response.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('AGENT')")
+    public ResponseEntity<StreamingResponseBody> exportClaims(@RequestParam(defaultValue = "csv") String format) {
+        ClaimExportService.Format exportFormat;
+        try {
+            exportFormat = ClaimExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unsupported export format: " + format + " (use csv or ndjson)");
+        }
+        MediaType mediaType = exportFormat == ClaimExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        String fileName = "claims." + format.toLowerCase();
+
+        StreamingResponseBody body = out -> claimExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    /**
+     * GET /api/claims/search?q=
+     * Ranked keyword search over claim descriptions and agent responses.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('AGENT')")
+    public ResponseEntity<?> searchClaims(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(claimSearchService.search(query, page, size));
+    }
+
+    /**
+     * GET /api/claims/queue
+     * The logged-in agent's open claims, riskiest and oldest first.
+     */
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('AGENT')")
+    public ResponseEntity<?> getAgentQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(claimService.getAgentQueue(email, page, size));
     }
 
     @GetMapping("/my")
     @PreAuthorize("hasRole('CUSTOMER')")
-    public List<Claim> getMyClaims() {
+    public List<ClaimSummaryDTO> getMyClaims() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         return claimService.getMyClaims(email);
     }
 
+    /**
+     * GET /api/claims/{id}
+     * Supports If-None-Match: answers 304 from a version lookup when the
+     * client's copy is current, without loading the claim.
+     */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'AGENT', 'ADMIN')")
-    public ResponseEntity<Claim> getClaimById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(claimService.getClaimById(id));
+    public ResponseEntity<Claim> getClaimById(@PathVariable("id") Long id, WebRequest request) {
+        Optional<String> version = claimService.getClaimVersionTag(id);
+        if (version.isPresent() && request.checkNotModified(claimETag("claim", id, version.get()))) {
+            return null;
+        }
+        Claim claim = claimService.getClaimById(id);
+        return ResponseEntity.ok()
+                .eTag(claimETag("claim", id, version.orElseThrow()))
+                .body(claim);
     }
 
+    /**
+     * GET /api/claims/{id}/details
+     * Conditional like GET /api/claims/{id}, under its own ETag.
+     */
     @GetMapping("/{id}/details")
     @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
-    public ResponseEntity<?> getClaimDetails(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(claimService.getClaimDetails(id));
+    public ResponseEntity<?> getClaimDetails(@PathVariable("id") Long id, WebRequest request) {
+        Optional<String> version = claimService.getClaimVersionTag(id);
+        if (version.isPresent() && request.checkNotModified(claimETag("claim-details", id, version.get()))) {
+            return null;
+        }
+        ClaimDetailsDTO details = claimService.getClaimDetails(id);
+        return ResponseEntity.ok()
+                .eTag(claimETag("claim-details", id, version.orElseThrow()))
+                .body(details);
     }
 
     @PostMapping
@@ -155,6 +190,48 @@ public class ClaimController {
         return claimService.updateStatusWithResponse(id, Claim.ClaimStatus.REJECTED, request.getResponse());
     }
 
+    /**
+     * PUT /api/claims/bulk/assign
+     * Body: { "claimIds": [...], "agentId": 2 }. All-or-nothing, one transaction.
+     */
+    @PutMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkAssignAgent(@RequestBody BulkClaimRequest request) {
+        return ResponseEntity.ok(claimService.bulkAssignAgent(request.getClaimIds(), request.getAgentId()));
+    }
+
+    /**
+     * PUT /api/claims/bulk/approve
+     * Body: { "claimIds": [...], "response": "..." }
+     */
+    @PutMapping("/bulk/approve")
+    @PreAuthorize("hasRole('AGENT')")
+    public ResponseEntity<?> bulkApprove(@RequestBody BulkClaimRequest request) {
+        return ResponseEntity.ok(claimService.bulkUpdateStatusWithResponse(
+                request.getClaimIds(), Claim.ClaimStatus.APPROVED, request.getResponse()));
+    }
+
+    /**
+     * PUT /api/claims/bulk/reject
+     * Body: { "claimIds": [...], "response": "..." }
+     */
+    @PutMapping("/bulk/reject")
+    @PreAuthorize("hasRole('AGENT')")
+    public ResponseEntity<?> bulkReject(@RequestBody BulkClaimRequest request) {
+        return ResponseEntity.ok(claimService.bulkUpdateStatusWithResponse(
+                request.getClaimIds(), Claim.ClaimStatus.REJECTED, request.getResponse()));
+    }
+
+    /**
+     * PUT /api/claims/bulk/status
+     * Body: { "claimIds": [...], "status": "IN_REVIEW" }
+     */
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkUpdateStatus(@RequestBody BulkClaimRequest request) {
+        return ResponseEntity.ok(claimService.bulkUpdateStatus(request.getClaimIds(), request.getStatus()));
+    }
+
     @PutMapping("/{id}/verify-description")
     @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
     public ResponseEntity<?> verifyDescription(@PathVariable("id") Long id) {
@@ -171,4 +248,11 @@ public class ClaimController {
         claimService.deleteClaim(id);
         return ResponseEntity.ok("Claim deleted successfully");
     }
+
+    // Strong validator per representation from the claim's version tag. The tag is read
+    // before the body, so a concurrent update can only make it older than the body,
+    // which costs the client one extra full response but never a wrong 304.
+    private static String claimETag(String representation, Long id, String version) {
+        return "\"" + representation + "-" + id + "-v" + version + "\"";
+    }
 }
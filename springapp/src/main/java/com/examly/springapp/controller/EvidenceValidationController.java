@@ -2,10 +2,12 @@ package com.examly.springapp.controller;
 
 import com.examly.springapp.dto.DocumentRequirementDTO;
 import com.examly.springapp.dto.EvidenceValidationResultDTO;
+import com.examly.springapp.dto.ValidationJobDTO;
 import com.examly.springapp.model.DocumentRequirement;
 import com.examly.springapp.model.EvidenceValidationResult;
 import com.examly.springapp.service.DocumentRequirementService;
 import com.examly.springapp.service.EvidenceValidationService;
+import com.examly.springapp.service.ValidationJobService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +16,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -31,6 +36,9 @@ public class EvidenceValidationController {
     @Autowired
     private DocumentRequirementService documentRequirementService;
 
+    @Autowired
+    private ValidationJobService validationJobService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -54,20 +62,36 @@ public class EvidenceValidationController {
     }
 
     /**
-     * Re-run evidence validation for a claim
+     * Re-run evidence validation for a claim in the background.
+     * Returns 202 with the job; poll GET /api/validation-jobs/{id} for the outcome.
      */
     @PostMapping("/claims/{claimId}/evidence-validation/revalidate")
     @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
-    public ResponseEntity<EvidenceValidationResultDTO> revalidateEvidence(@PathVariable("claimId") Long claimId) {
+    public ResponseEntity<?> revalidateEvidence(@PathVariable("claimId") Long claimId) {
         try {
-            EvidenceValidationResult result = evidenceValidationService.validateClaimEvidence(claimId);
-            EvidenceValidationResultDTO dto = convertToDTO(result);
-            return ResponseEntity.ok(dto);
+            ValidationJobDTO job = validationJobService.submit(claimId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/validation-jobs/" + job.getId()))
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
 
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(null);
+    /**
+     * Status of a validation job; includes the validation result once it has SUCCEEDED
+     */
+    @GetMapping("/validation-jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
+    public ResponseEntity<ValidationJobDTO> getValidationJob(@PathVariable("jobId") String jobId) {
+        ValidationJobDTO job = validationJobService.getJob(jobId)
+                .orElseThrow(() -> new NoSuchElementException("Validation job not found"));
+        if (ValidationJobService.JobStatus.SUCCEEDED.name().equals(job.getStatus())) {
+            evidenceValidationService.getValidationResult(job.getClaimId())
+                    .ifPresent(result -> job.setResult(convertToDTO(result)));
         }
+        return ResponseEntity.ok(job);
     }
 
     /**
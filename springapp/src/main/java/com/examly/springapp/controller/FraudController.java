@@ -1,7 +1,11 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.model.FraudImageResult;
 import com.examly.springapp.model.FraudResult;
 import com.examly.springapp.model.ClaimDocument;
+import com.examly.springapp.service.AiResultCache;
+import com.examly.springapp.service.AiServiceClient;
+import com.examly.springapp.service.FraudScoreDistributionService;
 import com.examly.springapp.service.FraudService;
 import com.examly.springapp.service.FileStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @CrossOrigin(origins = "*")
 @RestController
@@ -24,6 +29,15 @@ public class FraudController {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private AiResultCache aiResultCache;
+
+    @Autowired
+    private AiServiceClient aiServiceClient;
+
+    @Autowired
+    private FraudScoreDistributionService fraudScoreDistributionService;
+
     /**
      * MANUAL FRAUD DETECTION - Triggered by user clicking "Generate" button
      * Analyzes all images associated with a claim
@@ -41,24 +55,20 @@ public class FraudController {
                 return ResponseEntity.badRequest().body(error);
             }
 
-            // Analyze the first image document found
-            ClaimDocument imageDoc = documents.stream()
+            // Analyze every image document of the claim
+            List<ClaimDocument> imageDocs = documents.stream()
                     .filter(doc -> doc.getFileType() != null && doc.getFileType().startsWith("image/"))
-                    .findFirst()
-                    .orElse(null);
+                    .collect(Collectors.toList());
 
-            if (imageDoc == null) {
+            if (imageDocs.isEmpty()) {
                 Map<String, Object> error = new HashMap<>();
                 error.put("error", "No image documents found for fraud analysis");
                 error.put("analyzed", false);
                 return ResponseEntity.badRequest().body(error);
             }
 
-            // Perform fraud analysis
-            fileStorageService.analyzeFraudForDocument(imageDoc);
-
-            // Fetch and return the results
-            FraudResult fraudResult = fraudService.getFraudResultByClaim(claimId);
+            // Perform fraud analysis; the images are analyzed concurrently
+            FraudResult fraudResult = fileStorageService.analyzeFraudForImages(claimId, imageDocs);
 
             if (fraudResult == null) {
                 Map<String, Object> error = new HashMap<>();
@@ -93,6 +103,16 @@ public class FraudController {
         return ResponseEntity.ok(fraudResult);
     }
 
+    /**
+     * Per-image fraud analysis results behind a claim's fraud result
+     * Accessible by agents and admins
+     */
+    @GetMapping("/claim/{claimId}/images")
+    @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
+    public ResponseEntity<List<FraudImageResult>> getFraudImageResults(@PathVariable Long claimId) {
+        return ResponseEntity.ok(fraudService.getImageResultsByClaim(claimId));
+    }
+
     /**
      * Get fraud statistics dashboard
      * Accessible by agents and admins only
@@ -105,7 +125,20 @@ public class FraudController {
     }
 
     /**
-     * Check if AI fraud detection service is available
+     * Fraud score histograms with p50/p90/p99, overall, per claim type and
+     * per image status, for reviewing the workflow routing thresholds
+     * Accessible by agents and admins only
+     */
+    @GetMapping("/distribution")
+    @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
+    public ResponseEntity<Map<String, Object>> getFraudScoreDistribution() {
+        return ResponseEntity.ok(fraudScoreDistributionService.getDistribution());
+    }
+
+    /**
+     * Check if AI fraud detection service is available, from the cached state
+     * of the background health probe, with the state of the circuit breaker
+     * and bulkhead guarding calls to it
      */
     @GetMapping("/health")
     @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
@@ -114,9 +147,21 @@ public class FraudController {
         boolean available = fraudService.isAiServiceAvailable();
         response.put("aiServiceAvailable", available);
         response.put("status", available ? "operational" : "unavailable");
+        response.put("health", aiServiceClient.getHealthSnapshot());
+        response.put("circuitBreaker", aiServiceClient.getCircuitBreakerSnapshot());
+        response.put("bulkhead", aiServiceClient.getBulkheadSnapshot());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Hit/miss/eviction counters of the AI result cache
+     */
+    @GetMapping("/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getAiCacheMetrics() {
+        return ResponseEntity.ok(aiResultCache.getMetrics());
+    }
+
     private Map<String, Object> createNoAnalysisResponse() {
         Map<String, Object> response = new HashMap<>();
         response.put("analyzed", false);
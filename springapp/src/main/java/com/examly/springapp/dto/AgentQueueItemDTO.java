@@ -0,0 +1,124 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.EvidenceValidationResult;
+import com.examly.springapp.model.FraudResult;
+import java.time.LocalDateTime;
+
+/**
+ * One row of an agent's triage queue: the claim summary plus its fraud score
+ * and recommended route, selected together in a single query.
+ */
+public class AgentQueueItemDTO {
+    private Long id;
+    private String policyNumber;
+    private Claim.ClaimStatus status;
+    private Double amount;
+    private String claimTypeName;
+    private String customerName;
+    private LocalDateTime submissionDate;
+
+    // Risk signals (null until fraud analysis / evidence validation has run)
+    private Integer fraudScore;
+    private FraudResult.ImageStatus imageStatus;
+    private EvidenceValidationResult.WorkflowRoute recommendedRoute;
+
+    public AgentQueueItemDTO() {
+    }
+
+    public AgentQueueItemDTO(Long id, String policyNumber, Claim.ClaimStatus status, Double amount,
+            String claimTypeName, String customerName, LocalDateTime submissionDate, Integer fraudScore,
+            FraudResult.ImageStatus imageStatus, EvidenceValidationResult.WorkflowRoute recommendedRoute) {
+        this.id = id;
+        this.policyNumber = policyNumber;
+        this.status = status;
+        this.amount = amount;
+        this.claimTypeName = claimTypeName;
+        this.customerName = customerName;
+        this.submissionDate = submissionDate;
+        this.fraudScore = fraudScore;
+        this.imageStatus = imageStatus;
+        this.recommendedRoute = recommendedRoute;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPolicyNumber() {
+        return policyNumber;
+    }
+
+    public void setPolicyNumber(String policyNumber) {
+        this.policyNumber = policyNumber;
+    }
+
+    public Claim.ClaimStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Claim.ClaimStatus status) {
+        this.status = status;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public String getClaimTypeName() {
+        return claimTypeName;
+    }
+
+    public void setClaimTypeName(String claimTypeName) {
+        this.claimTypeName = claimTypeName;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public LocalDateTime getSubmissionDate() {
+        return submissionDate;
+    }
+
+    public void setSubmissionDate(LocalDateTime submissionDate) {
+        this.submissionDate = submissionDate;
+    }
+
+    public Integer getFraudScore() {
+        return fraudScore;
+    }
+
+    public void setFraudScore(Integer fraudScore) {
+        this.fraudScore = fraudScore;
+    }
+
+    public FraudResult.ImageStatus getImageStatus() {
+        return imageStatus;
+    }
+
+    public void setImageStatus(FraudResult.ImageStatus imageStatus) {
+        this.imageStatus = imageStatus;
+    }
+
+    public EvidenceValidationResult.WorkflowRoute getRecommendedRoute() {
+        return recommendedRoute;
+    }
+
+    public void setRecommendedRoute(EvidenceValidationResult.WorkflowRoute recommendedRoute) {
+        this.recommendedRoute = recommendedRoute;
+    }
+}
@@ -0,0 +1,51 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Claim;
+import java.util.List;
+
+/**
+ * Body of the /api/claims/bulk/* endpoints. Which fields are required depends
+ * on the operation: agentId for assign, response for approve/reject, status
+ * for a plain status change.
+ */
+public class BulkClaimRequest {
+    private List<Long> claimIds;
+    private Long agentId;
+    private String response;
+    private Claim.ClaimStatus status;
+
+    public BulkClaimRequest() {
+    }
+
+    public List<Long> getClaimIds() {
+        return claimIds;
+    }
+
+    public void setClaimIds(List<Long> claimIds) {
+        this.claimIds = claimIds;
+    }
+
+    public Long getAgentId() {
+        return agentId;
+    }
+
+    public void setAgentId(Long agentId) {
+        this.agentId = agentId;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public Claim.ClaimStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Claim.ClaimStatus status) {
+        this.status = status;
+    }
+}
@@ -14,6 +14,7 @@ public class ClaimDetailsDTO {
     private LocalDateTime submissionDate;
     private String agentResponse;
     private boolean descriptionVerified;
+    private Long version;
 
     // Claim Type Info
     private Long claimTypeId;
@@ -102,6 +103,14 @@ public class ClaimDetailsDTO {
         this.descriptionVerified = descriptionVerified;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Long getClaimTypeId() {
         return claimTypeId;
     }
@@ -0,0 +1,111 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Claim;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for claim listings. Populated directly by a JPQL/Criteria
+ * constructor expression so lists never load the Claim entity graph.
+ */
+public class ClaimSummaryDTO {
+    private Long id;
+    private String policyNumber;
+    private Claim.ClaimStatus status;
+    private Double amount;
+    private String claimTypeName;
+    private String customerName;
+    private LocalDateTime submissionDate;
+    private String agentResponse;
+
+    public ClaimSummaryDTO() {
+    }
+
+    public ClaimSummaryDTO(Long id, String policyNumber, Claim.ClaimStatus status, Double amount,
+            String claimTypeName, String customerName, LocalDateTime submissionDate, String agentResponse) {
+        this.id = id;
+        this.policyNumber = policyNumber;
+        this.status = status;
+        this.amount = amount;
+        this.claimTypeName = claimTypeName;
+        this.customerName = customerName;
+        this.submissionDate = submissionDate;
+        this.agentResponse = agentResponse;
+    }
+
+    public static ClaimSummaryDTO from(Claim claim) {
+        return new ClaimSummaryDTO(
+                claim.getId(),
+                claim.getPolicyNumber(),
+                claim.getStatus(),
+                claim.getAmount(),
+                claim.getClaimType() != null ? claim.getClaimType().getName() : null,
+                claim.getCustomer() != null ? claim.getCustomer().getName() : null,
+                claim.getSubmissionDate(),
+                claim.getAgentResponse());
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPolicyNumber() {
+        return policyNumber;
+    }
+
+    public void setPolicyNumber(String policyNumber) {
+        this.policyNumber = policyNumber;
+    }
+
+    public Claim.ClaimStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Claim.ClaimStatus status) {
+        this.status = status;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public String getClaimTypeName() {
+        return claimTypeName;
+    }
+
+    public void setClaimTypeName(String claimTypeName) {
+        this.claimTypeName = claimTypeName;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public LocalDateTime getSubmissionDate() {
+        return submissionDate;
+    }
+
+    public void setSubmissionDate(LocalDateTime submissionDate) {
+        this.submissionDate = submissionDate;
+    }
+
+    public String getAgentResponse() {
+        return agentResponse;
+    }
+
+    public void setAgentResponse(String agentResponse) {
+        this.agentResponse = agentResponse;
+    }
+}
@@ -0,0 +1,88 @@
+package com.examly.springapp.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status of an asynchronous evidence-validation job, as returned by the
+ * revalidate endpoint (202) and GET /api/validation-jobs/{id}.
+ */
+public class ValidationJobDTO {
+    private String id;
+    private Long claimId;
+    private String status; // QUEUED, RUNNING, SUCCEEDED, FAILED
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    // Present once the job has SUCCEEDED
+    private EvidenceValidationResultDTO result;
+
+    public ValidationJobDTO() {
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getClaimId() {
+        return claimId;
+    }
+
+    public void setClaimId(Long claimId) {
+        this.claimId = claimId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public EvidenceValidationResultDTO getResult() {
+        return result;
+    }
+
+    public void setResult(EvidenceValidationResultDTO result) {
+        this.result = result;
+    }
+}
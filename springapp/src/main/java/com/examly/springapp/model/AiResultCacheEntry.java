@@ -0,0 +1,122 @@
+package com.examly.springapp.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A cached AI service response, addressed by the content of the analysed file
+ * and everything else that can change the answer (endpoint, parameters, model
+ * version). See AiResultCache.
+ */
+@Entity
+@Table(name = "ai_result_cache", indexes = {
+        @Index(name = "idx_ai_result_cache_key", columnList = "cache_key", unique = true),
+        @Index(name = "idx_ai_result_cache_last_accessed", columnList = "last_accessed_at")
+})
+public class AiResultCacheEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 (hex) of content hash, endpoint, parameters and model version
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false)
+    private String endpoint;
+
+    // SHA-256 (hex) of the file bytes or JSON request payload
+    @Column(name = "content_sha256", nullable = false, length = 64)
+    private String contentSha256;
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_accessed_at", nullable = false)
+    private LocalDateTime lastAccessedAt;
+
+    public AiResultCacheEntry() {
+    }
+
+    public AiResultCacheEntry(String cacheKey, String endpoint, String contentSha256, String modelVersion,
+            String response) {
+        this.cacheKey = cacheKey;
+        this.endpoint = endpoint;
+        this.contentSha256 = contentSha256;
+        this.modelVersion = modelVersion;
+        this.response = response;
+        this.createdAt = LocalDateTime.now();
+        this.lastAccessedAt = this.createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public void setLastAccessedAt(LocalDateTime lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+}
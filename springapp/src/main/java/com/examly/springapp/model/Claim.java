@@ -1,10 +1,17 @@
 package com.examly.springapp.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+        @Index(name = "idx_claims_status", columnList = "status"),
+        @Index(name = "idx_claims_claim_type", columnList = "claim_type_id"),
+        @Index(name = "idx_claims_amount", columnList = "amount"),
+        @Index(name = "idx_claims_submission_date", columnList = "submission_date, id"),
+        @Index(name = "idx_claims_agent_status", columnList = "assigned_agent_id, status")
+})
 public class Claim {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,11 +49,17 @@ public class Claim {
     @Column(name = "description_verified", nullable = false)
     private boolean descriptionVerified = false;
 
-    @OneToOne(mappedBy = "claim", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private FraudResult fraudResult;
+    // Bumped on every update and when a document is attached; drives the ETag
+    // of the claim read endpoints. The default backfills pre-existing rows.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version = 0L;
 
-    @OneToOne(mappedBy = "claim", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private EvidenceValidationResult evidenceValidationResult;
+    // FraudResult and EvidenceValidationResult own their claim_id FK and are
+    // deliberately not mapped back here: an inverse @OneToOne cannot be lazy
+    // without bytecode enhancement, so every Claim load would fire two extra
+    // selects. Fetch them through their repositories when they are needed.
 
     public enum ClaimStatus {
         SUBMITTED, IN_REVIEW, APPROVED, REJECTED
@@ -146,19 +159,11 @@ public class Claim {
         this.descriptionVerified = descriptionVerified;
     }
 
-    public FraudResult getFraudResult() {
-        return fraudResult;
-    }
-
-    public void setFraudResult(FraudResult fraudResult) {
-        this.fraudResult = fraudResult;
-    }
-
-    public EvidenceValidationResult getEvidenceValidationResult() {
-        return evidenceValidationResult;
+    public Long getVersion() {
+        return version;
     }
 
-    public void setEvidenceValidationResult(EvidenceValidationResult evidenceValidationResult) {
-        this.evidenceValidationResult = evidenceValidationResult;
+    public void setVersion(Long version) {
+        this.version = version;
     }
 }
@@ -0,0 +1,132 @@
+package com.examly.springapp.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Classification and OCR outcome for one claim document. Evidence validation
+ * reuses it while the document's content hash and the AI model version are
+ * unchanged, so only new or changed documents go to the AI service.
+ */
+@Entity
+@Table(name = "document_validation_results")
+public class DocumentValidationResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_id", nullable = false, unique = true)
+    private ClaimDocument document;
+
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    @Column(name = "document_type")
+    private String documentType;
+
+    @Column(name = "classification_confidence")
+    private Integer classificationConfidence;
+
+    @Column(name = "extracted_fields", columnDefinition = "TEXT")
+    private String extractedFields; // JSON object
+
+    @Column(name = "ocr_confidence")
+    private Integer ocrConfidence;
+
+    // False when a stage fell back to defaults; such documents are retried next run
+    @Column(nullable = false)
+    private boolean complete;
+
+    @Column(name = "analyzed_at", nullable = false)
+    private LocalDateTime analyzedAt;
+
+    public DocumentValidationResult() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @JsonIgnore
+    public ClaimDocument getDocument() {
+        return document;
+    }
+
+    public void setDocument(ClaimDocument document) {
+        this.document = document;
+    }
+
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public String getDocumentType() {
+        return documentType;
+    }
+
+    public void setDocumentType(String documentType) {
+        this.documentType = documentType;
+    }
+
+    public Integer getClassificationConfidence() {
+        return classificationConfidence;
+    }
+
+    public void setClassificationConfidence(Integer classificationConfidence) {
+        this.classificationConfidence = classificationConfidence;
+    }
+
+    public String getExtractedFields() {
+        return extractedFields;
+    }
+
+    public void setExtractedFields(String extractedFields) {
+        this.extractedFields = extractedFields;
+    }
+
+    public Integer getOcrConfidence() {
+        return ocrConfidence;
+    }
+
+    public void setOcrConfidence(Integer ocrConfidence) {
+        this.ocrConfidence = ocrConfidence;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public LocalDateTime getAnalyzedAt() {
+        return analyzedAt;
+    }
+
+    public void setAnalyzedAt(LocalDateTime analyzedAt) {
+        this.analyzedAt = analyzedAt;
+    }
+}
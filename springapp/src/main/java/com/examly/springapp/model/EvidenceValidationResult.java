@@ -12,7 +12,7 @@ public class EvidenceValidationResult {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "claim_id", unique = true)
     private Claim claim;
 
@@ -0,0 +1,139 @@
+package com.examly.springapp.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Fraud analysis outcome for one image document of a claim. The claim's
+ * FraudResult aggregates these; they are replaced whenever the claim is
+ * analysed again.
+ */
+@Entity
+@Table(name = "fraud_image_results")
+public class FraudImageResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "claim_id", nullable = false)
+    private Claim claim;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_id", nullable = false)
+    private ClaimDocument document;
+
+    @Column(name = "document_name")
+    private String documentName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FraudResult.ImageStatus imageStatus;
+
+    @Column(nullable = false)
+    private Integer fraudScore; // 0-100
+
+    @Column(nullable = false)
+    private Integer confidence; // 0-100
+
+    @Column(columnDefinition = "TEXT")
+    private String remarks;
+
+    @Column(columnDefinition = "TEXT")
+    private String details; // JSON string with additional details
+
+    @Column(name = "analysis_date")
+    private LocalDateTime analysisDate;
+
+    public FraudImageResult() {
+        this.analysisDate = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @JsonIgnore
+    public Claim getClaim() {
+        return claim;
+    }
+
+    public void setClaim(Claim claim) {
+        this.claim = claim;
+    }
+
+    @JsonIgnore
+    public ClaimDocument getDocument() {
+        return document;
+    }
+
+    public void setDocument(ClaimDocument document) {
+        this.document = document;
+    }
+
+    public Long getDocumentId() {
+        return document != null ? document.getId() : null;
+    }
+
+    public String getDocumentName() {
+        return documentName;
+    }
+
+    public void setDocumentName(String documentName) {
+        this.documentName = documentName;
+    }
+
+    public FraudResult.ImageStatus getImageStatus() {
+        return imageStatus;
+    }
+
+    public void setImageStatus(FraudResult.ImageStatus imageStatus) {
+        this.imageStatus = imageStatus;
+    }
+
+    public Integer getFraudScore() {
+        return fraudScore;
+    }
+
+    public void setFraudScore(Integer fraudScore) {
+        this.fraudScore = fraudScore;
+    }
+
+    public Integer getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(Integer confidence) {
+        this.confidence = confidence;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public void setRemarks(String remarks) {
+        this.remarks = remarks;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public LocalDateTime getAnalysisDate() {
+        return analysisDate;
+    }
+
+    public void setAnalysisDate(LocalDateTime analysisDate) {
+        this.analysisDate = analysisDate;
+    }
+}
@@ -12,7 +12,7 @@ public class FraudResult {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "claim_id", unique = true)
     private Claim claim;
 
@@ -35,6 +35,10 @@ public class FraudResult {
     @Column(columnDefinition = "TEXT")
     private String details; // JSON string with additional details
 
+    // Some of the claim's images could not be analysed; the result covers the rest
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean incomplete;
+
     public enum ImageStatus {
         GENUINE, SUSPICIOUS, FRAUD
     }
@@ -108,4 +112,12 @@ public class FraudResult {
     public void setDetails(String details) {
         this.details = details;
     }
+
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    public void setIncomplete(boolean incomplete) {
+        this.incomplete = incomplete;
+    }
 }
@@ -2,6 +2,7 @@ package com.examly.springapp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -40,6 +41,13 @@ public class User implements UserDetails {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Bumped on every update; part of the ETag of claim representations that
+    // embed the customer or agent. The default backfills pre-existing rows.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version = 0L;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -136,6 +144,15 @@ public class User implements UserDetails {
         this.aadharNumber = aadharNumber;
     }
 
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // UserDetails Implementation
     @JsonIgnore
     @Override
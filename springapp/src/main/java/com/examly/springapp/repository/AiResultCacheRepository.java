@@ -0,0 +1,34 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.AiResultCacheEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AiResultCacheRepository extends JpaRepository<AiResultCacheEntry, Long> {
+
+    Optional<AiResultCacheEntry> findByCacheKey(String cacheKey);
+
+    /**
+     * Mark an entry as recently used, for LRU eviction
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AiResultCacheEntry e SET e.lastAccessedAt = :accessedAt WHERE e.id = :id")
+    void touch(@Param("id") Long id, @Param("accessedAt") LocalDateTime accessedAt);
+
+    /**
+     * Ids of the least recently used entries, oldest first
+     */
+    @Query("SELECT e.id FROM AiResultCacheEntry e ORDER BY e.lastAccessedAt ASC, e.id ASC")
+    List<Long> findLeastRecentlyUsedIds(Pageable pageable);
+}
@@ -1,16 +1,130 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.AgentQueueItemDTO;
+import com.examly.springapp.dto.ClaimSummaryDTO;
 import com.examly.springapp.model.Claim;
 import com.examly.springapp.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ClaimRepository extends JpaRepository<Claim, Long> {
+public interface ClaimRepository extends JpaRepository<Claim, Long>, JpaSpecificationExecutor<Claim>,
+        ClaimRepositoryCustom {
     List<Claim> findByCustomer(User customer);
 
     List<Claim> findByAssignedAgent(User agent);
 
     List<Claim> findByStatus(Claim.ClaimStatus status);
+
+    @Query("SELECT new com.examly.springapp.dto.ClaimSummaryDTO(c.id, c.policyNumber, c.status, c.amount, "
+            + "t.name, u.name, c.submissionDate, c.agentResponse) "
+            + "FROM Claim c JOIN c.claimType t JOIN c.customer u WHERE u.email = :email")
+    List<ClaimSummaryDTO> findSummariesByCustomerEmail(@Param("email") String email);
+
+    /**
+     * [claim version, customer version, assigned agent version or null] of a
+     * claim, without loading any entity. At most one row.
+     */
+    @Query("SELECT c.version, cu.version, a.version FROM Claim c JOIN c.customer cu "
+            + "LEFT JOIN c.assignedAgent a WHERE c.id = :id")
+    List<Object[]> findVersionsById(@Param("id") Long id);
+
+    /**
+     * Bump the version of a claim whose dependent rows (e.g. documents) changed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Claim c SET c.version = c.version + 1 WHERE c.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    /**
+     * (id, status, description, agentResponse) of the given claims, for bulk
+     * operations that must report what they change. The rows stay locked
+     * until the transaction ends, so the state read here is the state the
+     * following bulk UPDATE replaces even when bulk operations overlap; they
+     * are locked in id order so overlapping operations cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id, c.status, c.description, c.agentResponse FROM Claim c WHERE c.id IN :ids ORDER BY c.id")
+    List<Object[]> findBulkStateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.assignedAgent = :agent, c.status = :status, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids")
+    int bulkAssign(@Param("ids") Collection<Long> ids, @Param("agent") User agent,
+            @Param("status") Claim.ClaimStatus status);
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.status = :status, c.version = c.version + 1 WHERE c.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") Claim.ClaimStatus status);
+
+    // A null response keeps each claim's current agent response
+    @Modifying
+    @Query("UPDATE Claim c SET c.status = :status, c.agentResponse = COALESCE(:response, c.agentResponse), "
+            + "c.version = c.version + 1 WHERE c.id IN :ids")
+    int bulkUpdateStatusWithResponse(@Param("ids") Collection<Long> ids, @Param("status") Claim.ClaimStatus status,
+            @Param("response") String response);
+
+    /**
+     * Open claims assigned to an agent with their fraud score and recommended
+     * route, riskiest first and then oldest first. Backed by the
+     * (assigned_agent_id, status) index and the unique claim_id keys of the
+     * result tables.
+     */
+    @Query(value = "SELECT new com.examly.springapp.dto.AgentQueueItemDTO(c.id, c.policyNumber, c.status, c.amount, "
+            + "t.name, u.name, c.submissionDate, f.fraudScore, f.imageStatus, e.recommendedRoute) "
+            + "FROM Claim c JOIN c.assignedAgent a JOIN c.claimType t JOIN c.customer u "
+            + "LEFT JOIN FraudResult f ON f.claim = c "
+            + "LEFT JOIN EvidenceValidationResult e ON e.claim = c "
+            + "WHERE a.email = :agentEmail AND c.status IN :statuses "
+            + "ORDER BY COALESCE(f.fraudScore, 0) DESC, c.submissionDate ASC, c.id ASC",
+            countQuery = "SELECT COUNT(c) FROM Claim c JOIN c.assignedAgent a "
+                    + "WHERE a.email = :agentEmail AND c.status IN :statuses")
+    Page<AgentQueueItemDTO> findAgentQueue(@Param("agentEmail") String agentEmail,
+            @Param("statuses") Collection<Claim.ClaimStatus> statuses, Pageable pageable);
+
+    /**
+     * Every claim as a summary row, in id order, for streaming exports. Must be
+     * consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.examly.springapp.dto.ClaimSummaryDTO(c.id, c.policyNumber, c.status, c.amount, "
+            + "t.name, u.name, c.submissionDate, c.agentResponse) "
+            + "FROM Claim c JOIN c.claimType t JOIN c.customer u ORDER BY c.id")
+    Stream<ClaimSummaryDTO> streamAllSummaries();
+
+    /**
+     * Rows of [id, description, agentResponse] for building the search index.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.id, c.description, c.agentResponse FROM Claim c")
+    Stream<Object[]> streamSearchableText();
+
+    /**
+     * Rows of [status, count, sum(amount)] for seeding dashboard statistics
+     */
+    @Query("SELECT c.status, COUNT(c), COALESCE(SUM(c.amount), 0) FROM Claim c GROUP BY c.status")
+    List<Object[]> countAndSumByStatus();
+
+    /**
+     * Rows of [claim type name, count] for seeding dashboard statistics
+     */
+    @Query("SELECT t.name, COUNT(c) FROM Claim c JOIN c.claimType t GROUP BY t.name")
+    List<Object[]> countByClaimTypeName();
 }
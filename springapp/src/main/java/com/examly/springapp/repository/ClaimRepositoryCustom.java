@@ -0,0 +1,27 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Criteria-based projection queries that Spring Data cannot derive: listing
+ * rows are selected column-by-column into ClaimSummaryDTO in one statement.
+ */
+public interface ClaimRepositoryCustom {
+
+    /**
+     * One page of summaries plus a count query for the totals
+     */
+    Page<ClaimSummaryDTO> findSummaries(Specification<Claim> spec, Pageable pageable);
+
+    /**
+     * First {@code limit} summaries in {@code sort} order, without a count query
+     */
+    List<ClaimSummaryDTO> findSummaries(Specification<Claim> spec, Sort sort, int limit);
+}
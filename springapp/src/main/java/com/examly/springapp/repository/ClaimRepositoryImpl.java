@@ -0,0 +1,84 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimType;
+import com.examly.springapp.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * Spring Data picks this up as the implementation of ClaimRepositoryCustom.
+ */
+public class ClaimRepositoryImpl implements ClaimRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ClaimSummaryDTO> findSummaries(Specification<Claim> spec, Pageable pageable) {
+        TypedQuery<ClaimSummaryDTO> query = summaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ClaimSummaryDTO> findSummaries(Specification<Claim> spec, Sort sort, int limit) {
+        return summaryQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<ClaimSummaryDTO> summaryQuery(Specification<Claim> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClaimSummaryDTO> query = cb.createQuery(ClaimSummaryDTO.class);
+        Root<Claim> root = query.from(Claim.class);
+        Join<Claim, ClaimType> claimType = root.join("claimType");
+        Join<Claim, User> customer = root.join("customer");
+
+        query.select(cb.construct(ClaimSummaryDTO.class,
+                root.get("id"),
+                root.get("policyNumber"),
+                root.get("status"),
+                root.get("amount"),
+                claimType.get("name"),
+                customer.get("name"),
+                root.get("submissionDate"),
+                root.get("agentResponse")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Claim> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Claim> root = query.from(Claim.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,83 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimType;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Reusable Criteria predicates for filtering claims in the database.
+ * A null argument means "no filter" so the specs can be chained freely.
+ */
+public final class ClaimSpecifications {
+
+    private ClaimSpecifications() {
+    }
+
+    public static Specification<Claim> hasStatus(Claim.ClaimStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Claim> hasClaimTypeName(String claimType) {
+        return (root, query, cb) -> {
+            if (claimType == null) {
+                return null;
+            }
+            return cb.equal(cb.upper(claimTypeJoin(root).get("name")), claimType.toUpperCase());
+        };
+    }
+
+    public static Specification<Claim> amountAtLeast(Double minAmount) {
+        return (root, query, cb) -> minAmount == null ? null : cb.ge(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Claim> amountAtMost(Double maxAmount) {
+        return (root, query, cb) -> maxAmount == null ? null : cb.le(root.get("amount"), maxAmount);
+    }
+
+    public static Specification<Claim> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Keyset seek: rows strictly after (lastValue, lastId) in the given order.
+     * With sortBy "id" the value is ignored and only the id is compared.
+     */
+    public static <T extends Comparable<? super T>> Specification<Claim> seekAfter(
+            String sortBy, Sort.Direction direction, T lastValue, Long lastId) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Predicate idAfter = direction.isDescending() ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+            if (sortBy.equals("id")) {
+                return idAfter;
+            }
+            Path<T> key = root.get(sortBy);
+            Predicate keyAfter = direction.isDescending()
+                    ? cb.lessThan(key, lastValue)
+                    : cb.greaterThan(key, lastValue);
+            // The redundant bound lets the database start the (key, id) index scan at the cursor;
+            // the OR alone is not usable as an index range, so every page would scan from the start
+            Predicate keyBound = direction.isDescending()
+                    ? cb.lessThanOrEqualTo(key, lastValue)
+                    : cb.greaterThanOrEqualTo(key, lastValue);
+            return cb.and(keyBound, cb.or(keyAfter, cb.and(cb.equal(key, lastValue), idAfter)));
+        };
+    }
+
+    // Reuse a claimType join the caller already made (e.g. for a projection)
+    @SuppressWarnings("unchecked")
+    private static Join<Claim, ClaimType> claimTypeJoin(Root<Claim> root) {
+        for (Join<Claim, ?> join : root.getJoins()) {
+            if (join.getAttribute().getName().equals("claimType")) {
+                return (Join<Claim, ClaimType>) join;
+            }
+        }
+        return root.join("claimType");
+    }
+}
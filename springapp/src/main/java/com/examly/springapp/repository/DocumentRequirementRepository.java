@@ -2,6 +2,7 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.DocumentRequirement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +19,10 @@ public interface DocumentRequirementRepository extends JpaRepository<DocumentReq
      * Find all mandatory document requirements for a claim type
      */
     List<DocumentRequirement> findByClaimTypeIdAndMandatoryTrue(Long claimTypeId);
+
+    /**
+     * Every requirement with its claim type, in definition order, for the requirement index
+     */
+    @Query("SELECT r FROM DocumentRequirement r JOIN FETCH r.claimType ORDER BY r.id")
+    List<DocumentRequirement> findAllWithClaimType();
 }
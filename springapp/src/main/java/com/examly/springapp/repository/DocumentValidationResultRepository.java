@@ -0,0 +1,28 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.DocumentValidationResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DocumentValidationResultRepository extends JpaRepository<DocumentValidationResult, Long> {
+
+    /**
+     * Stored per-document results of every document of a claim
+     */
+    @Query("SELECT r FROM DocumentValidationResult r WHERE r.document.claim.id = :claimId")
+    List<DocumentValidationResult> findByClaimId(@Param("claimId") Long claimId);
+
+    /**
+     * Remove the per-document results of a claim whose documents are being deleted
+     */
+    @Modifying
+    @Query("DELETE FROM DocumentValidationResult r WHERE r.document.id IN "
+            + "(SELECT d.id FROM ClaimDocument d WHERE d.claim.id = :claimId)")
+    void deleteByClaimId(@Param("claimId") Long claimId);
+}
@@ -2,6 +2,9 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.EvidenceValidationResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,4 +21,11 @@ public interface EvidenceValidationResultRepository extends JpaRepository<Eviden
      * Check if evidence validation result exists for a claim
      */
     boolean existsByClaimId(Long claimId);
+
+    /**
+     * Remove the validation result of a claim that is being deleted
+     */
+    @Modifying
+    @Query("DELETE FROM EvidenceValidationResult e WHERE e.claim.id = :claimId")
+    void deleteByClaimId(@Param("claimId") Long claimId);
 }
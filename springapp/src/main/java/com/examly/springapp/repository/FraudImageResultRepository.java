@@ -0,0 +1,27 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.FraudImageResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FraudImageResultRepository extends JpaRepository<FraudImageResult, Long> {
+
+    /**
+     * Per-image results of a claim, in the order the images were uploaded
+     */
+    @Query("SELECT r FROM FraudImageResult r WHERE r.claim.id = :claimId ORDER BY r.document.id")
+    List<FraudImageResult> findByClaimId(@Param("claimId") Long claimId);
+
+    /**
+     * Remove the per-image results of a claim, before re-analysis or deletion
+     */
+    @Modifying
+    @Query("DELETE FROM FraudImageResult r WHERE r.claim.id = :claimId")
+    void deleteByClaimId(@Param("claimId") Long claimId);
+}
@@ -2,9 +2,12 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.FraudResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,34 @@ public interface FraudResultRepository extends JpaRepository<FraudResult, Long>
      */
     Optional<FraudResult> findByClaimId(Long claimId);
 
+    /**
+     * Insert or update the fraud result of a claim in one statement. Clears
+     * the persistence context so a FraudResult loaded earlier is not served
+     * stale afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "MERGE INTO fraud_results f USING (SELECT CAST(:claimId AS BIGINT) AS claim_id) s "
+            + "ON f.claim_id = s.claim_id "
+            + "WHEN MATCHED THEN UPDATE SET image_status = :imageStatus, fraud_score = :fraudScore, "
+            + "confidence = :confidence, remarks = :remarks, details = :details, analysis_date = :analysisDate, "
+            + "incomplete = :incomplete "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(claim_id, image_status, fraud_score, confidence, remarks, details, analysis_date, incomplete) "
+            + "VALUES (s.claim_id, :imageStatus, :fraudScore, :confidence, :remarks, :details, :analysisDate, "
+            + ":incomplete)",
+            nativeQuery = true)
+    void upsert(@Param("claimId") Long claimId, @Param("imageStatus") String imageStatus,
+            @Param("fraudScore") Integer fraudScore, @Param("confidence") Integer confidence,
+            @Param("remarks") String remarks, @Param("details") String details,
+            @Param("analysisDate") LocalDateTime analysisDate, @Param("incomplete") boolean incomplete);
+
+    /**
+     * Remove the fraud result of a claim that is being deleted
+     */
+    @Modifying
+    @Query("DELETE FROM FraudResult f WHERE f.claim.id = :claimId")
+    void deleteByClaimId(@Param("claimId") Long claimId);
+
     /**
      * Find all suspicious or fraudulent claims
      */
@@ -29,19 +60,28 @@ public interface FraudResultRepository extends JpaRepository<FraudResult, Long>
     List<FraudResult> findByFraudScoreGreaterThanEqual(int threshold);
 
     /**
-     * Count total fraud results analyzed
+     * Rows of [image status, claim type name, count, count since since24h,
+     * count since since7d, count since since30d] for the fraud statistics
      */
-    long count();
+    @Query("SELECT f.imageStatus, t.name, COUNT(f), "
+            + "SUM(CASE WHEN f.analysisDate >= :since24h THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN f.analysisDate >= :since7d THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN f.analysisDate >= :since30d THEN 1 ELSE 0 END) "
+            + "FROM FraudResult f JOIN f.claim c LEFT JOIN c.claimType t GROUP BY f.imageStatus, t.name")
+    List<Object[]> countByStatusAndClaimType(@Param("since24h") LocalDateTime since24h,
+            @Param("since7d") LocalDateTime since7d, @Param("since30d") LocalDateTime since30d);
 
     /**
-     * Count suspicious claims
+     * Rows of [claim type name, image status, fraud score, count] for seeding
+     * the fraud score distribution
      */
-    @Query("SELECT COUNT(f) FROM FraudResult f WHERE f.imageStatus = 'SUSPICIOUS'")
-    long countSuspicious();
+    @Query("SELECT t.name, f.imageStatus, f.fraudScore, COUNT(f) FROM FraudResult f JOIN f.claim c "
+            + "LEFT JOIN c.claimType t GROUP BY t.name, f.imageStatus, f.fraudScore")
+    List<Object[]> countByClaimTypeStatusAndScore();
 
     /**
-     * Count fraud claims
+     * [image status, fraud score] of a claim's fraud result; empty when it has none
      */
-    @Query("SELECT COUNT(f) FROM FraudResult f WHERE f.imageStatus = 'FRAUD'")
-    long countFraud();
+    @Query("SELECT f.imageStatus, f.fraudScore FROM FraudResult f WHERE f.claim.id = :claimId")
+    List<Object[]> findStatusAndScoreByClaimId(@Param("claimId") Long claimId);
 }
@@ -0,0 +1,60 @@
+package com.examly.springapp.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves id sequences past rows written while the table still used IDENTITY
+ * columns, so that an upgraded database does not hand out ids already taken.
+ *
+ * Runs once the EntityManagerFactory (and with it the schema update) is ready
+ * and before the web server accepts requests.
+ */
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // table -> sequence; allocation sizes must match the entities' @SequenceGenerator
+    private static final String[][] SEQUENCES = {
+            { "audit_logs", "audit_logs_seq", "50" }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Injecting the EntityManagerFactory orders this after Hibernate's ddl update
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void synchronizeSequences() {
+        for (String[] sequence : SEQUENCES) {
+            String table = sequence[0];
+            String name = sequence[1];
+            long allocationSize = Long.parseLong(sequence[2]);
+
+            List<Long> nextValue = jdbcTemplate.queryForList(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                    Long.class, name);
+            if (nextValue.isEmpty()) {
+                logger.warn("Sequence {} does not exist; skipping", name);
+                continue;
+            }
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            // The pooled optimizer hands out the block ending at the value it reads,
+            // so the next block starts allocationSize - 1 below the sequence value
+            if (maxId > 0 && nextValue.get(0) - allocationSize < maxId) {
+                long restartWith = maxId + allocationSize + 1;
+                jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + restartWith);
+                logger.info("Restarted {} at {} (max {}.id = {})", name, restartWith, table, maxId);
+            }
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +24,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAadharNumber(String aadharNumber);
 
     Boolean existsByAadharNumber(String aadharNumber);
+
+    /**
+     * Rows of [role, count] for seeding dashboard statistics
+     */
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countByRole();
 }
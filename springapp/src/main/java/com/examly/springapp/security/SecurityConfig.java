@@ -1,6 +1,7 @@
 package com.examly.springapp.security;
 
 import com.examly.springapp.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -83,6 +84,10 @@ public class SecurityConfig {
                         // causing all POST/PUT/DELETE calls to fail with "Forbidden".
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Async re-dispatches (StreamingResponseBody exports) belong to a
+                        // request that was already authorized on its initial dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints — no JWT required
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/claim-types").permitAll()
@@ -0,0 +1,141 @@
+package com.examly.springapp.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for the AI service's batch endpoint, which classifies and OCRs many
+ * documents in one multipart request instead of two requests per document.
+ *
+ * Files are sent in chunks of at most ai.batch.max-documents, chunks in
+ * parallel on the shared AI call executor. Relevance is only requested when
+ * everything fits in one chunk, since it has to see all documents at once:
+ * for a claim with more than ai.batch.max-documents files no relevance is
+ * returned, and callers fall back to a separate /api/analyze-relevance call.
+ */
+@Component
+public class AiBatchClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiBatchClient.class);
+    private static final String BATCH_ENDPOINT = "/api/analyze-documents-batch";
+
+    private final AiCallExecutor aiCallExecutor;
+    private final AiServiceClient aiServiceClient;
+    private final int maxDocuments;
+
+    public AiBatchClient(AiCallExecutor aiCallExecutor, AiServiceClient aiServiceClient,
+            @Value("${ai.batch.max-documents:10}") int maxDocuments) {
+        if (maxDocuments < 1) {
+            throw new IllegalArgumentException("ai.batch.max-documents must be >= 1");
+        }
+        this.aiCallExecutor = aiCallExecutor;
+        this.aiServiceClient = aiServiceClient;
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * Classify and OCR {@code files}. Results come back in input order; a
+     * document the AI service could not process carries an error instead. Pass
+     * a claim type to have relevance analyzed over the same documents.
+     *
+     * @throws RestClientException when a batch request fails as a whole
+     */
+    public BatchResponse analyze(List<Path> files, String claimType) {
+        List<List<Path>> chunks = new ArrayList<>();
+        for (int from = 0; from < files.size(); from += maxDocuments) {
+            chunks.add(files.subList(from, Math.min(from + maxDocuments, files.size())));
+        }
+        String relevanceClaimType = chunks.size() == 1 ? claimType : null;
+
+        List<BatchBody> bodies = aiCallExecutor.mapConcurrently(chunks,
+                chunk -> postChunk(chunk, relevanceClaimType));
+
+        BatchResponse result = new BatchResponse();
+        for (int i = 0; i < chunks.size(); i++) {
+            BatchBody body = bodies.get(i);
+            List<DocumentResult> documents = body != null ? body.documents : null;
+            if (documents == null || documents.size() != chunks.get(i).size()) {
+                throw new RestClientException("Malformed response from " + BATCH_ENDPOINT);
+            }
+            result.documents.addAll(documents);
+            if (relevanceClaimType != null) {
+                result.relevance = body.relevance;
+            }
+        }
+        logger.debug("Analyzed {} documents in {} batch request(s)", files.size(), chunks.size());
+        return result;
+    }
+
+    private BatchBody postChunk(List<Path> files, String claimType) {
+        // Files are streamed from disk one after another, never held in memory together
+        StreamingMultipartBody body = new StreamingMultipartBody();
+        for (Path file : files) {
+            body.addFile("images", file);
+        }
+        if (claimType != null) {
+            body.addField("claim_type", claimType);
+        }
+
+        ResponseEntity<BatchBody> response = aiServiceClient.postMultipart(
+                BATCH_ENDPOINT,
+                body,
+                BatchBody.class);
+
+        return response.getBody();
+    }
+
+    // Response body of the batch endpoint
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class BatchBody {
+        public List<DocumentResult> documents;
+        public Map<String, Object> relevance;
+    }
+
+    /**
+     * Per-document results in input order, plus relevance when requested
+     */
+    public static class BatchResponse {
+        private final List<DocumentResult> documents = new ArrayList<>();
+        private Map<String, Object> relevance; // null unless requested and computed
+
+        public List<DocumentResult> getDocuments() {
+            return documents;
+        }
+
+        public Map<String, Object> getRelevance() {
+            return relevance;
+        }
+    }
+
+    /**
+     * Classification and OCR of one document; either may be null on failure
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class DocumentResult {
+        private Map<String, Object> classification;
+        private Map<String, Object> ocr;
+        private String error;
+
+        public Map<String, Object> getClassification() {
+            return classification;
+        }
+
+        public Map<String, Object> getOcr() {
+            return ocr;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.examly.springapp.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded thread pool for blocking calls to the AI service.
+ *
+ * ai.concurrency.global caps concurrent AI calls across all claims: a call is
+ * handed to the pool only once it holds one of that many global permits, and
+ * every call runs on a pool thread, never on the submitting request thread.
+ * Callers beyond the cap wait for a permit in arrival order.
+ *
+ * Every call also passes the bulkhead of {@link AiServiceClient}, which caps
+ * all AI calls, pooled or not. The global cap must not exceed
+ * ai.bulkhead.max-concurrent-calls, so pooled calls queue here, in order,
+ * rather than being rejected by the bulkhead; the difference between the two
+ * is the headroom left for calls made directly on request threads.
+ * {@link #mapConcurrently} additionally limits how many calls a single claim
+ * may have in flight, so one claim with many documents cannot starve others.
+ */
+@Component
+public class AiCallExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiCallExecutor.class);
+
+    private final ThreadPoolExecutor pool;
+    private final Semaphore globalPermits;
+    private final int perClaimConcurrency;
+
+    public AiCallExecutor(@Value("${ai.concurrency.global:16}") int globalConcurrency,
+            @Value("${ai.concurrency.per-claim:4}") int perClaimConcurrency,
+            @Value("${ai.bulkhead.max-concurrent-calls:20}") int bulkheadSize) {
+        if (globalConcurrency < 1 || perClaimConcurrency < 1) {
+            throw new IllegalArgumentException("ai.concurrency.global and ai.concurrency.per-claim must be >= 1");
+        }
+        if (globalConcurrency > bulkheadSize) {
+            throw new IllegalArgumentException("ai.concurrency.global must not exceed "
+                    + "ai.bulkhead.max-concurrent-calls (" + bulkheadSize + ")");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        // The global permits bound what is queued here, so the queue needs no capacity of its own
+        this.pool = new ThreadPoolExecutor(globalConcurrency, globalConcurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-call-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.globalPermits = new Semaphore(globalConcurrency, true);
+        this.perClaimConcurrency = perClaimConcurrency;
+        logger.info("AI call executor: global concurrency {}, per-claim concurrency {}",
+                globalConcurrency, perClaimConcurrency);
+    }
+
+    /**
+     * Apply {@code call} to every item concurrently and return the results in
+     * input order. At most the per-claim cap of calls from this invocation run
+     * at once. {@code call} should handle its own failures; an exception that
+     * escapes it is rethrown here once all calls have finished.
+     */
+    public <T, R> List<R> mapConcurrently(List<T> items, Function<T, R> call) {
+        return mapConcurrently(items, perClaimConcurrency, call);
+    }
+
+    /**
+     * As {@link #mapConcurrently(List, Function)}, with at most
+     * {@code maxConcurrency} calls from this invocation running at once
+     * instead of the per-claim cap. The global cap still bounds the total.
+     */
+    public <T, R> List<R> mapConcurrently(List<T> items, int maxConcurrency, Function<T, R> call) {
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                // The claim's own permit first, so a waiting claim holds no global permit
+                permits.acquire();
+                try {
+                    globalPermits.acquire();
+                } catch (InterruptedException e) {
+                    permits.release();
+                    throw e;
+                }
+                try {
+                    futures.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return call.apply(item);
+                        } finally {
+                            globalPermits.release();
+                            permits.release();
+                        }
+                    }, pool));
+                } catch (RejectedExecutionException e) {
+                    // Only after shutdown
+                    globalPermits.release();
+                    permits.release();
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("Interrupted while waiting for AI calls", e);
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+        List<R> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,174 @@
+package com.examly.springapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Circuit breaker over calls to the AI service.
+ *
+ * CLOSED: calls pass and their outcomes fill a sliding window of the last
+ * ai.circuit-breaker.window-size calls. Once at least minimum-calls are
+ * recorded and either the failure rate or the slow-call rate (calls taking
+ * slow-call-duration or longer) reaches its threshold, the breaker opens.
+ * OPEN: calls are rejected immediately for open-duration. HALF_OPEN: the next
+ * half-open-calls calls are let through as a trial; their outcomes decide
+ * whether the breaker closes again or reopens.
+ */
+@Component
+public class AiCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationMillis;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failedCount;
+    private int slowCount;
+    private long openedAtMillis;
+    private Instant lastTransition = Instant.now();
+    private int halfOpenPermitsIssued;
+    private long rejectedCalls;
+
+    public AiCircuitBreaker(@Value("${ai.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${ai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${ai.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${ai.circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${ai.circuit-breaker.slow-call-duration:20000}") long slowCallDurationMillis,
+            @Value("${ai.circuit-breaker.open-duration:30000}") long openDurationMillis,
+            @Value("${ai.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException(
+                    "ai.circuit-breaker.window-size, minimum-calls and half-open-calls must be >= 1");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = Math.min(halfOpenCalls, windowSize);
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * Whether a call may go ahead now. Every permitted call must be followed
+     * by exactly one {@link #onResult}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openDurationMillis) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermitsIssued < halfOpenCalls) {
+            halfOpenPermitsIssued++;
+            return true;
+        }
+        rejectedCalls++;
+        return false;
+    }
+
+    /**
+     * Record the outcome of a permitted call. A failure means the AI service
+     * did not answer or answered with a server error.
+     */
+    public synchronized void onResult(boolean failed, long durationMillis) {
+        if (state == State.OPEN) {
+            // A straggler permitted before the breaker opened
+            return;
+        }
+        record(failed, durationMillis >= slowCallDurationMillis);
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transitionTo(thresholdReached() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= minimumCalls && thresholdReached()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("state", state.name());
+        snapshot.put("bufferedCalls", recorded);
+        snapshot.put("failureRate", rate(failedCount));
+        snapshot.put("slowCallRate", rate(slowCount));
+        snapshot.put("failureRateThreshold", failureRateThreshold);
+        snapshot.put("slowCallRateThreshold", slowCallRateThreshold);
+        snapshot.put("rejectedCalls", rejectedCalls);
+        snapshot.put("lastTransition", lastTransition.toString());
+        if (state == State.OPEN) {
+            snapshot.put("retryInMillis",
+                    Math.max(0, openDurationMillis - (System.currentTimeMillis() - openedAtMillis)));
+        }
+        return snapshot;
+    }
+
+    // Callers must hold the lock
+    private void record(boolean failed, boolean slow) {
+        if (recorded == windowSize) {
+            // Window full: the oldest outcome drops out
+            failedCount -= failedCalls[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % windowSize;
+    }
+
+    private boolean thresholdReached() {
+        return rate(failedCount) >= failureRateThreshold || rate(slowCount) >= slowCallRateThreshold;
+    }
+
+    private double rate(int count) {
+        return recorded > 0 ? count * 100.0 / recorded : 0.0;
+    }
+
+    // Every transition starts a fresh window
+    private void transitionTo(State newState) {
+        logger.warn("AI service circuit breaker {} -> {} (failure rate {}%, slow-call rate {}% over {} calls)",
+                state, newState, rate(failedCount), rate(slowCount), recorded);
+        state = newState;
+        lastTransition = Instant.now();
+        next = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+        halfOpenPermitsIssued = 0;
+        if (newState == State.OPEN) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+}
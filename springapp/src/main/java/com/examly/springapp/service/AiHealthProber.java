@@ -0,0 +1,161 @@
+package com.examly.springapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Probes the AI service's /health endpoint in the background and caches the
+ * outcome.
+ *
+ * A probe runs every ai.health.probe-interval over the HttpClient shared with
+ * {@link AiServiceClient} and is bounded by ai.service.timeouts.health. The
+ * service is DOWN after failure-threshold consecutive failed probes and UP
+ * again after one successful probe; it is UNKNOWN until the first probe
+ * completes. Alongside the status the prober keeps an exponentially weighted
+ * moving average of successful probe latencies (weight ai.health.ewma-alpha
+ * for the newest) and the time of the last status change. Health requests
+ * are answered from this state, and {@link AiServiceClient} rejects calls at
+ * once while the service is DOWN.
+ */
+@Component
+public class AiHealthProber {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiHealthProber.class);
+
+    public enum Status {
+        UNKNOWN, UP, DOWN
+    }
+
+    private final HttpClient httpClient;
+    private final URI healthUri;
+    private final Duration timeout;
+    private final int failureThreshold;
+    private final double ewmaAlpha;
+
+    // Guarded by this
+    private Status status = Status.UNKNOWN;
+    private int consecutiveFailures;
+    private double latencyEwmaMillis = -1;
+    private long lastLatencyMillis = -1;
+    private Instant lastProbe;
+    private Instant lastTransition = Instant.now();
+    private String lastError;
+    private long skippedCalls;
+
+    public AiHealthProber(HttpClient httpClient,
+            @Value("${ai.service.url:http://localhost:5000}") String baseUrl,
+            @Value("${ai.service.timeouts.health:${ai.service.timeout:30000}}") long timeoutMillis,
+            @Value("${ai.health.failure-threshold:2}") int failureThreshold,
+            @Value("${ai.health.ewma-alpha:0.3}") double ewmaAlpha) {
+        if (failureThreshold < 1 || ewmaAlpha <= 0 || ewmaAlpha > 1) {
+            throw new IllegalArgumentException(
+                    "ai.health.failure-threshold must be >= 1 and ai.health.ewma-alpha in (0, 1]");
+        }
+        this.healthUri = URI.create((baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl)
+                + "/health");
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.failureThreshold = failureThreshold;
+        this.ewmaAlpha = ewmaAlpha;
+        this.httpClient = httpClient;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.health.probe-interval:10000}")
+    public void probe() {
+        HttpRequest request = HttpRequest.newBuilder(healthUri).timeout(timeout).GET().build();
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                error = "HTTP " + response.statusCode();
+            }
+        } catch (IOException e) {
+            error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        onProbe(error, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void onProbe(String error, long latencyMillis) {
+        lastProbe = Instant.now();
+        lastError = error;
+        if (error == null) {
+            consecutiveFailures = 0;
+            lastLatencyMillis = latencyMillis;
+            latencyEwmaMillis = latencyEwmaMillis < 0 ? latencyMillis
+                    : ewmaAlpha * latencyMillis + (1 - ewmaAlpha) * latencyEwmaMillis;
+            transitionTo(Status.UP);
+        } else {
+            consecutiveFailures++;
+            if (consecutiveFailures >= failureThreshold) {
+                transitionTo(Status.DOWN);
+            }
+        }
+    }
+
+    // Callers must hold the lock
+    private void transitionTo(Status newStatus) {
+        if (status != newStatus) {
+            if (newStatus == Status.DOWN) {
+                logger.warn("AI service {} -> DOWN after {} failed health probes: {}", status,
+                        consecutiveFailures, lastError);
+            } else {
+                logger.info("AI service {} -> {}", status, newStatus);
+            }
+            status = newStatus;
+            lastTransition = Instant.now();
+        }
+    }
+
+    /**
+     * Whether a call to the AI service should be made; false while the
+     * service is known to be down. Rejections are counted.
+     */
+    public synchronized boolean allowCall() {
+        if (status == Status.DOWN) {
+            skippedCalls++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether the last probes found the service healthy; false until the
+     * first probe succeeds
+     */
+    public synchronized boolean isAvailable() {
+        return status == Status.UP;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("status", status.name());
+        snapshot.put("consecutiveFailures", consecutiveFailures);
+        snapshot.put("latencyEwmaMillis", latencyEwmaMillis >= 0 ? Math.round(latencyEwmaMillis) : null);
+        snapshot.put("lastLatencyMillis", lastLatencyMillis >= 0 ? lastLatencyMillis : null);
+        snapshot.put("lastProbe", lastProbe != null ? lastProbe.toString() : null);
+        snapshot.put("lastTransition", lastTransition.toString());
+        snapshot.put("lastError", lastError);
+        snapshot.put("skippedCalls", skippedCalls);
+        return snapshot;
+    }
+}
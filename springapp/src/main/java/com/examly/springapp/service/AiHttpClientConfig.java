@@ -0,0 +1,26 @@
+package com.examly.springapp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * The JDK HttpClient for the AI service. {@link AiServiceClient} and
+ * {@link AiHealthProber} share it, so health probes ride the same kept-alive
+ * connection pool as regular calls.
+ */
+@Configuration
+public class AiHttpClientConfig {
+
+    @Bean
+    public HttpClient aiHttpClient(@Value("${ai.service.connect-timeout:3000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                // Plain HTTP/1.1 keep-alive; no h2c upgrade attempts against uvicorn
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+    }
+}
@@ -0,0 +1,265 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.AiResultCacheEntry;
+import com.examly.springapp.repository.AiResultCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Persistent, content-addressed cache of AI service responses.
+ *
+ * An entry is keyed by the SHA-256 of the analysed file (or, for JSON
+ * endpoints, of the request payload) together with the AI endpoint, its
+ * request parameters and the configured model version, so the same bytes
+ * analysed the same way are only ever sent to the AI service once.
+ * Bumping ai.model.version invalidates everything. The table is capped at
+ * ai.cache.max-entries rows; the least recently used rows are evicted first.
+ */
+@Service
+public class AiResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiResultCache.class);
+
+    private final AiResultCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter canonicalWriter;
+    private final String modelVersion;
+    private final long maxEntries;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AiResultCache(AiResultCacheRepository cacheRepository, ObjectMapper objectMapper,
+            @Value("${ai.model.version:1}") String modelVersion,
+            @Value("${ai.cache.max-entries:10000}") long maxEntries) {
+        this.cacheRepository = cacheRepository;
+        this.objectMapper = objectMapper;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.modelVersion = modelVersion;
+        this.maxEntries = maxEntries;
+        this.entries.set(cacheRepository.count());
+    }
+
+    /**
+     * Return the cached response for this file/endpoint/parameters, or make
+     * the call and cache its result. A null result or an exception from
+     * {@code call} is passed through and not cached, so fallbacks built by the
+     * caller on failure are never stored.
+     */
+    public <T> T getOrCompute(Path file, String endpoint, Map<String, String> params, Class<T> type,
+            Supplier<T> call) {
+        String contentSha256;
+        try {
+            contentSha256 = sha256(file);
+        } catch (IOException e) {
+            // Unreadable file: let the call fail or succeed on its own terms
+            misses.incrementAndGet();
+            return call.get();
+        }
+        return getOrCompute(contentSha256, endpoint, params, type, call);
+    }
+
+    /**
+     * As above, for JSON endpoints: the content hash is taken over the request
+     * payload serialized with map keys sorted.
+     */
+    public <T> T getOrCompute(Object payload, String endpoint, Class<T> type, Supplier<T> call) {
+        String contentSha256;
+        try {
+            byte[] json = canonicalWriter.writeValueAsBytes(payload);
+            contentSha256 = HexFormat.of().formatHex(digest().digest(json));
+        } catch (IOException e) {
+            misses.incrementAndGet();
+            return call.get();
+        }
+        return getOrCompute(contentSha256, endpoint, Map.of(), type, call);
+    }
+
+    /**
+     * Cached response for a file already hashed by the caller, or null. For
+     * callers that obtain results some other way than one call per file, such
+     * as the batch endpoint, and record them with {@link #put}.
+     */
+    public <T> T getIfPresent(String contentSha256, String endpoint, Map<String, String> params, Class<T> type) {
+        return lookup(cacheKey(contentSha256, endpoint, params), type);
+    }
+
+    /**
+     * Record a response for a file as if it had come from a call to {@code endpoint}
+     */
+    public void put(String contentSha256, String endpoint, Map<String, String> params, Object value) {
+        if (value != null) {
+            store(cacheKey(contentSha256, endpoint, params), endpoint, contentSha256, value);
+        }
+    }
+
+    private <T> T getOrCompute(String contentSha256, String endpoint, Map<String, String> params, Class<T> type,
+            Supplier<T> call) {
+        String cacheKey = cacheKey(contentSha256, endpoint, params);
+
+        // Single-flight: concurrent lookups of one key (e.g. the same photo uploaded
+        // twice to a claim) wait for the first caller instead of calling the AI too
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(cacheKey, flight);
+        if (leader != null) {
+            Object shared = leader.exceptionally(e -> null).join();
+            if (type.isInstance(shared)) {
+                hits.incrementAndGet();
+                return type.cast(shared);
+            }
+            // The leader failed; try on our own
+            return lookupOrCall(cacheKey, contentSha256, endpoint, type, call);
+        }
+
+        T value = null;
+        try {
+            value = lookupOrCall(cacheKey, contentSha256, endpoint, type, call);
+            return value;
+        } finally {
+            inFlight.remove(cacheKey);
+            flight.complete(value);
+        }
+    }
+
+    private <T> T lookupOrCall(String cacheKey, String contentSha256, String endpoint, Class<T> type,
+            Supplier<T> call) {
+        T cached = lookup(cacheKey, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        T value = call.get();
+        if (value != null) {
+            store(cacheKey, endpoint, contentSha256, value);
+        }
+        return value;
+    }
+
+    // Counts a hit or a miss; null on a miss
+    private <T> T lookup(String cacheKey, Class<T> type) {
+        AiResultCacheEntry cached = cacheRepository.findByCacheKey(cacheKey).orElse(null);
+        if (cached != null) {
+            try {
+                T value = objectMapper.readValue(cached.getResponse(), type);
+                cacheRepository.touch(cached.getId(), LocalDateTime.now());
+                hits.incrementAndGet();
+                return value;
+            } catch (IOException e) {
+                // Unreadable after a DTO change: drop it and fetch afresh
+                logger.warn("Discarding unreadable AI cache entry {}: {}", cached.getId(), e.getMessage());
+                cacheRepository.deleteById(cached.getId());
+                entries.decrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.get();
+        long lookups = hitCount + misses.get();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("misses", misses.get());
+        metrics.put("hitRate", lookups > 0 ? (double) hitCount / lookups : 0.0);
+        metrics.put("evictions", evictions.get());
+        metrics.put("entries", entries.get());
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("modelVersion", modelVersion);
+        return metrics;
+    }
+
+    private void store(String cacheKey, String endpoint, String contentSha256, Object value) {
+        try {
+            cacheRepository.save(new AiResultCacheEntry(cacheKey, endpoint, contentSha256, modelVersion,
+                    objectMapper.writeValueAsString(value)));
+        } catch (DataIntegrityViolationException e) {
+            // Another thread cached the same key first; its entry is equivalent
+            return;
+        } catch (Exception e) {
+            logger.warn("Could not cache AI response for {}: {}", endpoint, e.getMessage());
+            return;
+        }
+        if (entries.incrementAndGet() > maxEntries) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    // Trim back to 90% of capacity so eviction runs once per batch of inserts, not per insert
+    private synchronized void evictLeastRecentlyUsed() {
+        long overflow = cacheRepository.count() - maxEntries * 9 / 10;
+        if (overflow > 0) {
+            List<Long> ids = cacheRepository.findLeastRecentlyUsedIds(PageRequest.of(0, (int) overflow));
+            cacheRepository.deleteAllByIdInBatch(ids);
+            evictions.addAndGet(ids.size());
+            logger.info("Evicted {} least recently used AI cache entries", ids.size());
+        }
+        entries.set(cacheRepository.count());
+    }
+
+    private String cacheKey(String contentSha256, String endpoint, Map<String, String> params) {
+        StringBuilder key = new StringBuilder()
+                .append(contentSha256).append('|')
+                .append(endpoint).append('|')
+                .append(modelVersion);
+        // Sorted so parameter order never changes the key
+        new TreeMap<>(params).forEach((name, value) -> key.append('|').append(name).append('=').append(value));
+        return HexFormat.of().formatHex(digest().digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    /**
+     * Hex SHA-256 of a file's bytes, read in 64 KB chunks
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest = digest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.examly.springapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The one HTTP client for the AI service, shared by every caller.
+ *
+ * All requests go through the single JDK HttpClient from
+ * {@link AiHttpClientConfig}, which keeps connections to the AI service alive
+ * and reuses them across calls. Connecting is bounded by
+ * ai.service.connect-timeout. Each request, from sending its body to
+ * receiving the response headers, is bounded per endpoint by
+ * ai.service.timeouts.&lt;last path segment&gt; (e.g.
+ * ai.service.timeouts.extract-ocr), falling back to ai.service.timeout.
+ *
+ * POSTs are guarded by the shared {@link AiCircuitBreaker} and by a bulkhead
+ * of ai.bulkhead.max-concurrent-calls, which bounds all AI calls; the
+ * {@link AiCallExecutor} pool is sized to fit within it. While the background
+ * {@link AiHealthProber} reports the service down, while the breaker is open,
+ * or when no bulkhead slot frees up within ai.bulkhead.max-wait, a call fails
+ * at once with {@link AiServiceUnavailableException} and callers take their
+ * fallbacks without waiting on the network.
+ *
+ * File uploads should use {@link #postMultipart}, which streams each file
+ * from disk instead of passing it through RestTemplate's message converters.
+ */
+@Component
+public class AiServiceClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiServiceClient.class);
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiHealthProber healthProber;
+    private final Semaphore bulkhead;
+    private final int bulkheadSize;
+    private final long bulkheadMaxWaitMillis;
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+    private final String baseUrl;
+    private final Duration defaultTimeout;
+    private final HttpClient httpClient;
+    private final RestTemplate restTemplate;
+    // Endpoint name -> request factory carrying that endpoint's timeout; all share httpClient
+    private final ConcurrentMap<String, ClientHttpRequestFactory> factories = new ConcurrentHashMap<>();
+
+    public AiServiceClient(Environment environment, ObjectMapper objectMapper, AiCircuitBreaker circuitBreaker,
+            AiHealthProber healthProber, HttpClient httpClient,
+            @Value("${ai.service.url:http://localhost:5000}") String baseUrl,
+            @Value("${ai.service.timeout:30000}") long defaultTimeoutMillis,
+            @Value("${ai.bulkhead.max-concurrent-calls:20}") int bulkheadSize,
+            @Value("${ai.bulkhead.max-wait:1000}") long bulkheadMaxWaitMillis) {
+        if (bulkheadSize < 1) {
+            throw new IllegalArgumentException("ai.bulkhead.max-concurrent-calls must be >= 1");
+        }
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+        this.healthProber = healthProber;
+        this.bulkhead = new Semaphore(bulkheadSize, true);
+        this.bulkheadSize = bulkheadSize;
+        this.bulkheadMaxWaitMillis = bulkheadMaxWaitMillis;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.defaultTimeout = Duration.ofMillis(defaultTimeoutMillis);
+        this.httpClient = httpClient;
+        this.restTemplate = new RestTemplate((uri, method) -> factoryFor(uri).createRequest(uri, method));
+        logger.info("AI service client: {} (default request timeout {} ms)", this.baseUrl, defaultTimeoutMillis);
+    }
+
+    /**
+     * POST through the bulkhead and circuit breaker
+     *
+     * @throws AiServiceUnavailableException when rejected without calling
+     */
+    public <T> ResponseEntity<T> post(String endpoint, HttpEntity<?> request, Class<T> responseType) {
+        return guarded(endpoint, () -> restTemplate.postForEntity(baseUrl + endpoint, request, responseType));
+    }
+
+    /**
+     * POST a multipart body with streamed file parts, through the bulkhead and
+     * circuit breaker. Failures surface as the same RestClientException
+     * subtypes RestTemplate would throw.
+     *
+     * @throws AiServiceUnavailableException when rejected without calling
+     */
+    public <T> ResponseEntity<T> postMultipart(String endpoint, StreamingMultipartBody body, Class<T> responseType) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .timeout(timeoutFor(endpointName(endpoint)))
+                .header(HttpHeaders.CONTENT_TYPE, body.getContentType())
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .POST(body.toPublisher())
+                .build();
+        return guarded(endpoint, () -> send(request, responseType));
+    }
+
+    private <T> ResponseEntity<T> send(HttpRequest request, Class<T> responseType) {
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on POST request for \"" + request.uri() + "\": "
+                    + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted during POST request for \"" + request.uri() + "\"");
+        }
+
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        if (status.isError()) {
+            throw HttpServerErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        try {
+            T value = response.body().length > 0 ? objectMapper.readValue(response.body(), responseType) : null;
+            return new ResponseEntity<>(value, headers, status);
+        } catch (IOException e) {
+            throw new RestClientException("Could not read AI service response from " + request.uri(), e);
+        }
+    }
+
+    /**
+     * Whether the latest background health probes found the service up
+     */
+    public boolean isServiceAvailable() {
+        return healthProber.isAvailable();
+    }
+
+    public Map<String, Object> getHealthSnapshot() {
+        return healthProber.getSnapshot();
+    }
+
+    public Map<String, Object> getCircuitBreakerSnapshot() {
+        return circuitBreaker.getSnapshot();
+    }
+
+    public Map<String, Object> getBulkheadSnapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("maxConcurrentCalls", bulkheadSize);
+        snapshot.put("availableCalls", bulkhead.availablePermits());
+        snapshot.put("rejectedCalls", bulkheadRejections.get());
+        return snapshot;
+    }
+
+    private <T> ResponseEntity<T> guarded(String endpoint, Supplier<ResponseEntity<T>> call) {
+        if (!healthProber.allowCall()) {
+            throw new AiServiceUnavailableException("AI service is down according to its health probe, rejected "
+                    + endpoint);
+        }
+        try {
+            if (!bulkhead.tryAcquire(bulkheadMaxWaitMillis, TimeUnit.MILLISECONDS)) {
+                bulkheadRejections.incrementAndGet();
+                throw new AiServiceUnavailableException("AI service bulkhead full, rejected " + endpoint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceUnavailableException("Interrupted waiting for the AI service bulkhead");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new AiServiceUnavailableException("AI service circuit breaker is "
+                        + circuitBreaker.getState() + ", rejected " + endpoint);
+            }
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                ResponseEntity<T> response = call.get();
+                failed = false;
+                return response;
+            } catch (RestClientException e) {
+                // Only no answer or a server error counts against the service; a 4xx is our request's fault
+                failed = e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+                throw e;
+            } finally {
+                circuitBreaker.onResult(failed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * An AI call rejected by the circuit breaker or bulkhead without being made
+     */
+    public static class AiServiceUnavailableException extends RestClientException {
+        private static final long serialVersionUID = 1L;
+
+        public AiServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    private ClientHttpRequestFactory factoryFor(URI uri) {
+        return factories.computeIfAbsent(endpointName(uri.getPath()), name -> {
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(timeoutFor(name));
+            return factory;
+        });
+    }
+
+    private Duration timeoutFor(String endpointName) {
+        Long timeoutMillis = environment.getProperty("ai.service.timeouts." + endpointName, Long.class);
+        return timeoutMillis != null ? Duration.ofMillis(timeoutMillis) : defaultTimeout;
+    }
+
+    private static String endpointName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,251 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.repository.ClaimRepository;
+import com.examly.springapp.repository.ClaimSpecifications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over Claim.description and Claim.agentResponse.
+ *
+ * The index is built once from the database when the application is ready and
+ * then kept current by ClaimService after each committed create, response
+ * update or delete. Queries are ranked with BM25 entirely in memory; only the
+ * requested page of claims is then read back from the database.
+ */
+@Service
+public class ClaimSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClaimSearchService.class);
+
+    // Standard BM25 tuning constants
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (claim id -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // claim id -> distinct terms, needed to unindex a claim without its old text
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documentLengths.clear();
+            totalLength = 0;
+            try (Stream<Object[]> rows = claimRepository.streamSearchableText()) {
+                rows.forEach(row -> addDocument((Long) row[0], (String) row[1], (String) row[2]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Claim search index built: {} claims, {} terms", documentLengths.size(), postings.size());
+    }
+
+    /**
+     * (Re)index a claim once the surrounding transaction commits
+     */
+    public void index(Long claimId, String description, String agentResponse) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(claimId);
+                addDocument(claimId, description, agentResponse);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long claimId) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(claimId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Ranked, paged keyword search. Claims matching more (and rarer) query
+     * terms rank higher; ties go to the newer claim.
+     */
+    public Map<String, Object> search(String query, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new RuntimeException("page must be >= 0 and size >= 1");
+        }
+        // Only the hits up to the end of the requested page are ever ordered
+        int limit = (int) Math.min(Integer.MAX_VALUE, ((long) page + 1) * size);
+        Ranking ranking = rank(tokenize(query), limit);
+
+        int from = (int) Math.min((long) page * size, ranking.topIds.size());
+        int to = (int) Math.min((long) from + size, ranking.topIds.size());
+        List<Long> pageIds = ranking.topIds.subList(from, to);
+
+        List<ClaimSummaryDTO> claims = new ArrayList<>();
+        if (!pageIds.isEmpty()) {
+            Map<Long, ClaimSummaryDTO> byId = claimRepository
+                    .findSummaries(ClaimSpecifications.idIn(pageIds), Sort.unsorted(), pageIds.size())
+                    .stream()
+                    .collect(Collectors.toMap(ClaimSummaryDTO::getId, Function.identity()));
+            for (Long id : pageIds) {
+                ClaimSummaryDTO claim = byId.get(id);
+                if (claim != null) {
+                    claims.add(claim);
+                }
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("claims", claims);
+        response.put("currentPage", page);
+        response.put("totalItems", ranking.totalMatches);
+        response.put("totalPages", (int) Math.ceil((double) ranking.totalMatches / size));
+        return response;
+    }
+
+    /**
+     * Scores every matching claim but keeps only the best {@code limit} in a
+     * bounded min-heap, so a page costs O(matches * log limit) rather than a
+     * sort of all matches. The heap's head is the weakest kept hit: lowest
+     * score, then oldest claim.
+     */
+    private Ranking rank(List<String> terms, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return new Ranking(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms.stream().distinct().toList()) {
+                Map<Long, Integer> matches = postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+                for (Map.Entry<Long, Integer> match : matches.entrySet()) {
+                    double tf = match.getValue();
+                    double norm = 1 - B + B * documentLengths.get(match.getKey()) / averageLength;
+                    scores.merge(match.getKey(), idf * tf * (K1 + 1) / (tf + K1 * norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Map.Entry<Long, Double>> weakestFirst = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Math.min(limit, scores.size()) + 1,
+                weakestFirst);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            if (top.size() < limit) {
+                top.add(score);
+            } else if (weakestFirst.compare(score, top.peek()) > 0) {
+                top.poll();
+                top.add(score);
+            }
+        }
+
+        Long[] topIds = new Long[top.size()];
+        for (int i = topIds.length - 1; i >= 0; i--) {
+            topIds[i] = top.poll().getKey();
+        }
+        return new Ranking(Arrays.asList(topIds), scores.size());
+    }
+
+    private static final class Ranking {
+        private final List<Long> topIds; // best first
+        private final int totalMatches;
+
+        private Ranking(List<Long> topIds, int totalMatches) {
+            this.topIds = topIds;
+            this.totalMatches = totalMatches;
+        }
+    }
+
+    // Callers must hold the write lock
+    private void addDocument(Long claimId, String description, String agentResponse) {
+        List<String> tokens = tokenize(description);
+        tokens.addAll(tokenize(agentResponse));
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(claimId, tf));
+        documentTerms.put(claimId, frequencies.keySet().toArray(new String[0]));
+        documentLengths.put(claimId, tokens.size());
+        totalLength += tokens.size();
+    }
+
+    // Callers must hold the write lock
+    private void removeDocument(Long claimId) {
+        String[] terms = documentTerms.remove(claimId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(claimId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(claimId);
+    }
+
+    // Lower-cased runs of letters/digits; single characters carry no signal
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
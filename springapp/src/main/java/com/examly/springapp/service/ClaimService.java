@@ -5,29 +5,51 @@ import com.examly.springapp.model.Claim;
 import com.examly.springapp.model.ClaimType;
 import com.examly.springapp.model.User;
 import com.examly.springapp.repository.ClaimRepository;
+import com.examly.springapp.repository.ClaimSpecifications;
 import com.examly.springapp.repository.ClaimTypeRepository;
 import com.examly.springapp.repository.UserRepository;
 import com.examly.springapp.repository.AuditLogRepository;
 import com.examly.springapp.repository.ClaimDocumentRepository;
+import com.examly.springapp.repository.DocumentValidationResultRepository;
+import com.examly.springapp.repository.EvidenceValidationResultRepository;
+import com.examly.springapp.repository.FraudImageResultRepository;
+import com.examly.springapp.repository.FraudResultRepository;
 import com.examly.springapp.model.AuditLog;
 import com.examly.springapp.model.ClaimDocument;
+import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.dto.AgentQueueItemDTO;
 import com.examly.springapp.dto.ClaimDetailsDTO;
+import com.examly.springapp.dto.ClaimSummaryDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.NoSuchElementException;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ClaimService {
+    // Keyset seeks need non-null, totally ordered keys; amount is nullable
+    private static final List<String> CURSOR_SORT_KEYS = List.of("submissionDate", "id");
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final List<Claim.ClaimStatus> OPEN_STATUSES =
+            List.of(Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.IN_REVIEW);
+
     @Autowired
     private ClaimRepository claimRepository;
 
@@ -43,6 +65,30 @@ public class ClaimService {
     @Autowired
     private ClaimDocumentRepository claimDocumentRepository;
 
+    @Autowired
+    private DocumentValidationResultRepository documentValidationResultRepository;
+
+    @Autowired
+    private FraudResultRepository fraudResultRepository;
+
+    @Autowired
+    private FraudImageResultRepository fraudImageResultRepository;
+
+    @Autowired
+    private FraudStatisticsService fraudStatisticsService;
+
+    @Autowired
+    private FraudScoreDistributionService fraudScoreDistributionService;
+
+    @Autowired
+    private EvidenceValidationResultRepository evidenceValidationResultRepository;
+
+    @Autowired
+    private ClaimStatsService claimStatsService;
+
+    @Autowired
+    private ClaimSearchService claimSearchService;
+
     // TODO: Re-enable after fixing compilation issues
     // @Autowired
     // private EvidenceValidationService evidenceValidationService;
@@ -63,52 +109,157 @@ public class ClaimService {
             int page, int size, String sortBy, String sortDir,
             String status, String claimType, Double minAmount, Double maxAmount) {
 
-        // Create sort
-        Sort sort = sortDir.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
-
-        // Create pageable
-        Pageable pageable = PageRequest.of(page, size, sort);
-
-        // Get all claims
-        List<Claim> allClaims = claimRepository.findAll(sort);
-
-        // Apply filters
-        List<Claim> filteredClaims = allClaims.stream()
-                .filter(claim -> status == null || claim.getStatus().toString().equalsIgnoreCase(status))
-                .filter(claim -> claimType == null ||
-                        (claim.getClaimType() != null && claim.getClaimType().getName().equalsIgnoreCase(claimType)))
-                .filter(claim -> minAmount == null || claim.getAmount() >= minAmount)
-                .filter(claim -> maxAmount == null || claim.getAmount() <= maxAmount)
-                .collect(Collectors.toList());
-
-        // Manual pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredClaims.size());
-        List<Claim> paginatedClaims = start < filteredClaims.size()
-                ? filteredClaims.subList(start, end)
-                : List.of();
-
-        // Build response
+        // Create pageable (id as tie-breaker keeps page boundaries stable)
+        Pageable pageable = PageRequest.of(page, size, buildSort(sortBy, sortDir));
+
+        // An unknown status can never match, so skip the database entirely
+        Optional<Specification<Claim>> spec = buildFilterSpec(status, claimType, minAmount, maxAmount);
+        if (spec.isEmpty()) {
+            return buildPageResponse(Page.empty(pageable), page);
+        }
+
+        // Filters, LIMIT/OFFSET and the count query all run in the database
+        return buildPageResponse(claimRepository.findSummaries(spec.get(), pageable), page);
+    }
+
+    /**
+     * Keyset (cursor) variant of {@link #getAllClaimsWithFilters}. Instead of an
+     * OFFSET the query seeks past the (sortBy, id) of the last row returned, so
+     * every page costs the same regardless of depth. No count query is issued;
+     * the response carries an opaque nextCursor (null on the last page).
+     */
+    public Map<String, Object> getClaimsByCursor(
+            String cursor, int size, String sortBy, String sortDir,
+            String status, String claimType, Double minAmount, Double maxAmount) {
+
+        if (!CURSOR_SORT_KEYS.contains(sortBy)) {
+            throw new RuntimeException("Cursor pagination supports sortBy: " + String.join(", ", CURSOR_SORT_KEYS));
+        }
+
+        Sort sort = buildSort(sortBy, sortDir);
+        String direction = sort.getOrderFor(sortBy).getDirection().name();
+
+        Optional<Specification<Claim>> spec = buildFilterSpec(status, claimType, minAmount, maxAmount);
+        if (spec.isEmpty()) {
+            return buildCursorResponse(List.of(), null);
+        }
+
+        Specification<Claim> seek = (cursor == null || cursor.isBlank())
+                ? spec.get()
+                : spec.get().and(decodeCursor(cursor, sortBy, sort.getOrderFor(sortBy).getDirection()));
+
+        // Fetch one extra row to learn whether another page exists
+        List<ClaimSummaryDTO> rows = claimRepository.findSummaries(seek, sort, size + 1);
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = encodeCursor(rows.get(size - 1), sortBy, direction);
+        }
+        return buildCursorResponse(rows, nextCursor);
+    }
+
+    private Sort buildSort(String sortBy, String sortDir) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy);
+        return sortBy.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    private Optional<Specification<Claim>> buildFilterSpec(
+            String status, String claimType, Double minAmount, Double maxAmount) {
+        Claim.ClaimStatus statusFilter = null;
+        if (status != null) {
+            try {
+                statusFilter = Claim.ClaimStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(Specification.where(ClaimSpecifications.hasStatus(statusFilter))
+                .and(ClaimSpecifications.hasClaimTypeName(claimType))
+                .and(ClaimSpecifications.amountAtLeast(minAmount))
+                .and(ClaimSpecifications.amountAtMost(maxAmount)));
+    }
+
+    private Map<String, Object> buildPageResponse(Page<ClaimSummaryDTO> claimPage, int page) {
         Map<String, Object> response = new HashMap<>();
-        response.put("claims", paginatedClaims);
+        response.put("claims", claimPage.getContent());
         response.put("currentPage", page);
-        response.put("totalItems", filteredClaims.size());
-        response.put("totalPages", (int) Math.ceil((double) filteredClaims.size() / size));
+        response.put("totalItems", claimPage.getTotalElements());
+        response.put("totalPages", claimPage.getTotalPages());
+
+        return response;
+    }
+
+    private Map<String, Object> buildCursorResponse(List<ClaimSummaryDTO> claims, String nextCursor) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("claims", claims);
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", nextCursor != null);
 
         return response;
     }
 
-    public List<Claim> getMyClaims(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow();
-        return claimRepository.findByCustomer(user);
+    /**
+     * Cursor layout (before Base64url): sortBy|direction|lastSortValue|lastId.
+     * sortBy and direction are echoed back so a cursor cannot be replayed
+     * against a different ordering.
+     */
+    private String encodeCursor(ClaimSummaryDTO last, String sortBy, String direction) {
+        String value = sortBy.equals("submissionDate") ? String.valueOf(last.getSubmissionDate()) : "";
+        String raw = sortBy + "|" + direction + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Specification<Claim> decodeCursor(String cursor, String sortBy, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+                throw new IllegalArgumentException("cursor does not match sortBy/sortDir");
+            }
+
+            LocalDateTime lastDate = sortBy.equals("submissionDate") ? LocalDateTime.parse(parts[2]) : null;
+            return ClaimSpecifications.seekAfter(sortBy, direction, lastDate, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor: " + e.getMessage());
+        }
+    }
+
+    public List<ClaimSummaryDTO> getMyClaims(String email) {
+        return claimRepository.findSummariesByCustomerEmail(email);
+    }
+
+    /**
+     * Paged triage queue of the agent's open claims, with risk signals joined in
+     */
+    public Map<String, Object> getAgentQueue(String agentEmail, int page, int size) {
+        Page<AgentQueueItemDTO> queue = claimRepository.findAgentQueue(agentEmail, OPEN_STATUSES,
+                PageRequest.of(page, size));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("claims", queue.getContent());
+        response.put("currentPage", page);
+        response.put("totalItems", queue.getTotalElements());
+        response.put("totalPages", queue.getTotalPages());
+        return response;
     }
 
     public Claim getClaimById(Long id) {
         return claimRepository.findById(id).orElseThrow(() -> new NoSuchElementException("Claim not found"));
     }
 
+    /**
+     * Version tag of a claim's representations, which embed its customer and
+     * assigned agent: "claim.customer.agent", with "-" when unassigned.
+     * Changes whenever the claim or one of those users is updated.
+     */
+    public Optional<String> getClaimVersionTag(Long id) {
+        return claimRepository.findVersionsById(id).stream().findFirst()
+                .map(row -> row[0] + "." + row[1] + "." + (row[2] != null ? row[2] : "-"));
+    }
+
     public ClaimDetailsDTO getClaimDetails(Long id) {
         Claim claim = getClaimById(id);
 
@@ -121,6 +272,7 @@ public class ClaimService {
         dto.setSubmissionDate(claim.getSubmissionDate());
         dto.setAgentResponse(claim.getAgentResponse());
         dto.setDescriptionVerified(claim.isDescriptionVerified());
+        dto.setVersion(claim.getVersion());
 
         // Claim Type
         if (claim.getClaimType() != null) {
@@ -152,6 +304,7 @@ public class ClaimService {
         return dto;
     }
 
+    @Transactional
     public Claim createClaim(ClaimRequest request, String userEmail) {
         User customer = userRepository.findByEmail(userEmail).orElseThrow();
 
@@ -189,6 +342,8 @@ public class ClaimService {
 
         Claim savedClaim = claimRepository.save(claim);
         logAction(savedClaim, customer, "CLAIM_SUBMITTED");
+        claimStatsService.recordClaimCreated(savedClaim);
+        claimSearchService.index(savedClaim.getId(), savedClaim.getDescription(), savedClaim.getAgentResponse());
 
         // Trigger fraud analysis (done asynchronously after documents are uploaded)
         // This will be called by DocumentController after documents are uploaded
@@ -199,38 +354,80 @@ public class ClaimService {
         return savedClaim;
     }
 
+    @Transactional
     public Claim assignAgent(Long claimId, Long agentId) {
         Claim claim = getClaimById(claimId);
         User agent = userRepository.findById(agentId)
                 .orElseThrow(() -> new NoSuchElementException("Agent not found"));
 
+        Claim.ClaimStatus oldStatus = claim.getStatus();
         claim.setAssignedAgent(agent);
         claim.setStatus(Claim.ClaimStatus.IN_REVIEW);
         Claim savedClaim = claimRepository.save(claim);
+        claimStatsService.recordStatusChanged(claimId, oldStatus, Claim.ClaimStatus.IN_REVIEW);
 
         logAction(savedClaim, getCurrentUser(), "ASSIGNED_TO_" + agent.getName());
         return savedClaim;
     }
 
+    @Transactional
     public Claim updateStatus(Long claimId, Claim.ClaimStatus status) {
         Claim claim = getClaimById(claimId);
+        Claim.ClaimStatus oldStatus = claim.getStatus();
         claim.setStatus(status);
         Claim savedClaim = claimRepository.save(claim);
+        claimStatsService.recordStatusChanged(claimId, oldStatus, status);
 
         logAction(savedClaim, getCurrentUser(), "STATUS_CHANGED_TO_" + status);
         return savedClaim;
     }
 
+    @Transactional
     public Claim updateStatusWithResponse(Long claimId, Claim.ClaimStatus status, String response) {
         Claim claim = getClaimById(claimId);
+        Claim.ClaimStatus oldStatus = claim.getStatus();
         claim.setStatus(status);
         claim.setAgentResponse(response);
         Claim savedClaim = claimRepository.save(claim);
+        claimStatsService.recordStatusChanged(claimId, oldStatus, status);
+        claimSearchService.index(claimId, savedClaim.getDescription(), savedClaim.getAgentResponse());
 
         logAction(savedClaim, getCurrentUser(), "STATUS_CHANGED_TO_" + status + "_WITH_RESPONSE");
         return savedClaim;
     }
 
+    /**
+     * Assign many claims to one agent in a single transaction: one set-based
+     * UPDATE for the claims and one batched insert for their audit entries.
+     */
+    @Transactional
+    public Map<String, Object> bulkAssignAgent(List<Long> claimIds, Long agentId) {
+        List<Object[]> claims = loadBulkState(claimIds);
+        User agent = userRepository.findById(agentId)
+                .orElseThrow(() -> new NoSuchElementException("Agent not found"));
+
+        claimRepository.bulkAssign(idsOf(claims), agent, Claim.ClaimStatus.IN_REVIEW);
+        return afterBulkUpdate(claims, Claim.ClaimStatus.IN_REVIEW, null, "ASSIGNED_TO_" + agent.getName());
+    }
+
+    @Transactional
+    public Map<String, Object> bulkUpdateStatus(List<Long> claimIds, Claim.ClaimStatus status) {
+        if (status == null) {
+            throw new RuntimeException("status is required");
+        }
+        List<Object[]> claims = loadBulkState(claimIds);
+        claimRepository.bulkUpdateStatus(idsOf(claims), status);
+        return afterBulkUpdate(claims, status, null, "STATUS_CHANGED_TO_" + status);
+    }
+
+    @Transactional
+    public Map<String, Object> bulkUpdateStatusWithResponse(List<Long> claimIds, Claim.ClaimStatus status,
+            String response) {
+        List<Object[]> claims = loadBulkState(claimIds);
+        claimRepository.bulkUpdateStatusWithResponse(idsOf(claims), status, response);
+        return afterBulkUpdate(claims, status, response, "STATUS_CHANGED_TO_" + status + "_WITH_RESPONSE");
+    }
+
     public Claim verifyDescription(Long claimId) {
         Claim claim = getClaimById(claimId);
         if (!claim.isDescriptionVerified()) {
@@ -242,17 +439,89 @@ public class ClaimService {
         return claim; // Already verified — idempotent, no re-save
     }
 
+    @Transactional
     public void deleteClaim(Long claimId) {
         Claim claim = getClaimById(claimId);
         // Delete audit logs first (referential integrity — AuditLog FK points to
         // claims)
         java.util.List<com.examly.springapp.model.AuditLog> logs = auditLogRepository.findByClaimId(claimId);
         auditLogRepository.deleteAll(logs);
+        // Per-document validation and per-image fraud results reference the documents
+        documentValidationResultRepository.deleteByClaimId(claimId);
+        fraudImageResultRepository.deleteByClaimId(claimId);
         // Delete associated documents
         java.util.List<com.examly.springapp.model.ClaimDocument> docs = claimDocumentRepository.findByClaimId(claimId);
         claimDocumentRepository.deleteAll(docs);
+        // Results used to be removed by cascade from Claim; they are unmapped there now
+        for (Object[] fraud : fraudResultRepository.findStatusAndScoreByClaimId(claimId)) {
+            fraudScoreDistributionService.recordDeleted(claim.getClaimType() != null
+                    ? claim.getClaimType().getName() : null, (FraudResult.ImageStatus) fraud[0], (Integer) fraud[1]);
+        }
+        fraudResultRepository.deleteByClaimId(claimId);
+        fraudStatisticsService.recordChange();
+        evidenceValidationResultRepository.deleteByClaimId(claimId);
         // Now safe to delete the claim
         claimRepository.delete(claim);
+        claimStatsService.recordClaimDeleted(claim);
+        claimSearchService.remove(claimId);
+    }
+
+    // Current (id, status, description, agentResponse) rows; all ids must exist
+    private List<Object[]> loadBulkState(List<Long> claimIds) {
+        if (claimIds == null || claimIds.isEmpty()) {
+            throw new RuntimeException("claimIds must not be empty");
+        }
+        Set<Long> ids = new LinkedHashSet<>(claimIds);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("At most " + MAX_BULK_SIZE + " claims can be updated at once");
+        }
+
+        List<Object[]> claims = claimRepository.findBulkStateByIdIn(ids);
+        if (claims.size() != ids.size()) {
+            for (Object[] claim : claims) {
+                ids.remove((Long) claim[0]);
+            }
+            throw new NoSuchElementException("Claims not found: " + ids);
+        }
+        return claims;
+    }
+
+    /**
+     * Audit, statistics and search bookkeeping for a bulk update. Audit rows
+     * reference the claims by proxy, so no claim is loaded, and are flushed as
+     * JDBC batches. A claim is reindexed only when its stored response text
+     * changes; a null response keeps the current one.
+     */
+    private Map<String, Object> afterBulkUpdate(List<Object[]> claims, Claim.ClaimStatus newStatus,
+            String response, String action) {
+        User actor = getCurrentUser();
+        List<AuditLog> logs = new ArrayList<>(claims.size());
+        List<Long> updatedIds = new ArrayList<>(claims.size());
+
+        for (Object[] claim : claims) {
+            Long claimId = (Long) claim[0];
+            claimStatsService.recordStatusChanged(claimId, (Claim.ClaimStatus) claim[1], newStatus);
+            if (response != null && !response.equals(claim[3])) {
+                claimSearchService.index(claimId, (String) claim[2], response);
+            }
+            logs.add(new AuditLog(claimRepository.getReferenceById(claimId), actor, action));
+            updatedIds.add(claimId);
+        }
+        auditLogRepository.saveAll(logs);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("updated", updatedIds.size());
+        result.put("status", newStatus);
+        result.put("claimIds", updatedIds);
+        return result;
+    }
+
+    private static List<Long> idsOf(List<Object[]> claims) {
+        List<Long> ids = new ArrayList<>(claims.size());
+        for (Object[] claim : claims) {
+            ids.add((Long) claim[0]);
+        }
+        return ids;
     }
 
     private void logAction(Claim claim, User user, String action) {
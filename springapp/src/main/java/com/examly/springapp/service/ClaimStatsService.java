@@ -0,0 +1,213 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.ClaimRepository;
+import com.examly.springapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory snapshot of the admin dashboard statistics.
+ *
+ * Counters are loaded once with GROUP BY queries when the application is ready
+ * and afterwards maintained incrementally by ClaimService and registration.
+ * Updates are applied only after the surrounding transaction commits, so a
+ * rolled-back write never skews the numbers. Reads are served from memory.
+ */
+@Service
+public class ClaimStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClaimStatsService.class);
+    private static final int RECENT_CLAIMS_LIMIT = 5;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Object lock = new Object();
+    private final Map<Claim.ClaimStatus, Long> claimsByStatus = new EnumMap<>(Claim.ClaimStatus.class);
+    private final Map<String, Long> claimsByType = new HashMap<>();
+    private final Map<User.UserRole, Long> usersByRole = new EnumMap<>(User.UserRole.class);
+    private final LinkedList<ClaimSummaryDTO> recentClaims = new LinkedList<>();
+    private long totalClaims;
+    private double totalAmount;
+
+    /**
+     * Rebuild all counters from the database. Runs after the CommandLineRunner
+     * seeders so seeded users are included.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (lock) {
+            claimsByStatus.clear();
+            claimsByType.clear();
+            usersByRole.clear();
+            totalClaims = 0;
+            totalAmount = 0;
+
+            for (Object[] row : claimRepository.countAndSumByStatus()) {
+                long count = (Long) row[1];
+                claimsByStatus.put((Claim.ClaimStatus) row[0], count);
+                totalClaims += count;
+                totalAmount += ((Number) row[2]).doubleValue();
+            }
+            for (Object[] row : claimRepository.countByClaimTypeName()) {
+                claimsByType.put((String) row[0], (Long) row[1]);
+            }
+            for (Object[] row : userRepository.countByRole()) {
+                usersByRole.put((User.UserRole) row[0], (Long) row[1]);
+            }
+            reloadRecentClaims();
+        }
+        logger.info("Claim statistics loaded: {} claims, {} users", totalClaims, totalUsers());
+    }
+
+    public void recordClaimCreated(Claim claim) {
+        ClaimSummaryDTO recent = ClaimSummaryDTO.from(claim);
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                totalClaims++;
+                totalAmount += amountOf(claim);
+                increment(claimsByStatus, recent.getStatus(), 1);
+                if (recent.getClaimTypeName() != null) {
+                    increment(claimsByType, recent.getClaimTypeName(), 1);
+                }
+                recentClaims.addFirst(recent);
+                if (recentClaims.size() > RECENT_CLAIMS_LIMIT) {
+                    recentClaims.removeLast();
+                }
+            }
+        });
+    }
+
+    public void recordStatusChanged(Long claimId, Claim.ClaimStatus oldStatus, Claim.ClaimStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                increment(claimsByStatus, oldStatus, -1);
+                increment(claimsByStatus, newStatus, 1);
+                for (ClaimSummaryDTO recent : recentClaims) {
+                    if (recent.getId().equals(claimId)) {
+                        recent.setStatus(newStatus);
+                    }
+                }
+            }
+        });
+    }
+
+    public void recordClaimDeleted(Claim claim) {
+        Long claimId = claim.getId();
+        Claim.ClaimStatus status = claim.getStatus();
+        String claimType = claim.getClaimType() != null ? claim.getClaimType().getName() : null;
+        double amount = amountOf(claim);
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                totalClaims--;
+                totalAmount -= amount;
+                increment(claimsByStatus, status, -1);
+                if (claimType != null) {
+                    increment(claimsByType, claimType, -1);
+                }
+                // Backfill from the submission_date index when a visible entry goes away
+                if (recentClaims.removeIf(recent -> recent.getId().equals(claimId))) {
+                    reloadRecentClaims();
+                }
+            }
+        });
+    }
+
+    public void recordUserRegistered(User.UserRole role) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                increment(usersByRole, role, 1);
+            }
+        });
+    }
+
+    /**
+     * Current dashboard snapshot, in the same shape GET /api/claims/stats has
+     * always returned.
+     */
+    public Map<String, Object> getSnapshot() {
+        synchronized (lock) {
+            Map<String, Long> byStatus = new HashMap<>();
+            claimsByStatus.forEach((status, count) -> {
+                if (count > 0) {
+                    byStatus.put(status.name(), count);
+                }
+            });
+            Map<String, Long> byType = new HashMap<>();
+            claimsByType.forEach((type, count) -> {
+                if (count > 0) {
+                    byType.put(type, count);
+                }
+            });
+            List<Map<String, Object>> recent = new ArrayList<>();
+            for (ClaimSummaryDTO claim : recentClaims) {
+                recent.add(toRecentClaimMap(claim));
+            }
+
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("totalClaims", totalClaims);
+            stats.put("totalAmount", totalAmount);
+            stats.put("byStatus", byStatus);
+            stats.put("byType", byType);
+            stats.put("totalUsers", totalUsers());
+            stats.put("totalCustomers", usersByRole.getOrDefault(User.UserRole.CUSTOMER, 0L));
+            stats.put("totalAgents", usersByRole.getOrDefault(User.UserRole.AGENT, 0L));
+            stats.put("totalAdmins", usersByRole.getOrDefault(User.UserRole.ADMIN, 0L));
+            stats.put("recentClaims", recent);
+            return stats;
+        }
+    }
+
+    private void reloadRecentClaims() {
+        recentClaims.clear();
+        recentClaims.addAll(claimRepository.findSummaries(Specification.where(null),
+                Sort.by(Sort.Direction.DESC, "submissionDate", "id"), RECENT_CLAIMS_LIMIT));
+    }
+
+    private static Map<String, Object> toRecentClaimMap(ClaimSummaryDTO claim) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("id", claim.getId());
+        m.put("policyNumber", claim.getPolicyNumber());
+        m.put("status", claim.getStatus() != null ? claim.getStatus().name() : "UNKNOWN");
+        m.put("amount", claim.getAmount());
+        m.put("claimType", claim.getClaimTypeName() != null ? claim.getClaimTypeName() : "-");
+        m.put("submissionDate", claim.getSubmissionDate() != null ? claim.getSubmissionDate().toString() : "-");
+        return m;
+    }
+
+    private long totalUsers() {
+        return usersByRole.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static <K> void increment(Map<K, Long> counters, K key, long delta) {
+        if (key != null) {
+            counters.merge(key, delta, Long::sum);
+        }
+    }
+
+    private static double amountOf(Claim claim) {
+        return claim.getAmount() != null ? claim.getAmount() : 0;
+    }
+}
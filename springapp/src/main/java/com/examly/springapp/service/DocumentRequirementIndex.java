@@ -0,0 +1,168 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.DocumentRequirement;
+import com.examly.springapp.repository.DocumentRequirementRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of the mandatory document requirements of each claim type.
+ *
+ * Every document category gets a bit; each claim type keeps the bitset of its
+ * mandatory categories. A completeness check turns the classified categories
+ * of a claim's documents into a bitset and masks it against the claim type's,
+ * without touching the database. The index is an immutable snapshot, rebuilt
+ * when the application is ready and after every committed requirement change
+ * made through DocumentRequirementService.
+ */
+@Service
+public class DocumentRequirementIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentRequirementIndex.class);
+
+    @Autowired
+    private DocumentRequirementRepository documentRequirementRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, Integer> categoryBits = new HashMap<>();
+        Map<Long, List<DocumentRequirement>> mandatoryByType = new HashMap<>();
+        for (DocumentRequirement requirement : documentRequirementRepository.findAllWithClaimType()) {
+            categoryBits.putIfAbsent(requirement.getDocumentCategory(), categoryBits.size());
+            if (Boolean.TRUE.equals(requirement.getMandatory())) {
+                mandatoryByType.computeIfAbsent(requirement.getClaimType().getId(), id -> new ArrayList<>())
+                        .add(requirement);
+            }
+        }
+
+        Map<Long, ClaimTypeRequirements> byType = new HashMap<>();
+        mandatoryByType.forEach((claimTypeId, requirements) -> {
+            int[] bits = new int[requirements.size()];
+            String[] names = new String[requirements.size()];
+            BitSet mask = new BitSet();
+            for (int i = 0; i < requirements.size(); i++) {
+                bits[i] = categoryBits.get(requirements.get(i).getDocumentCategory());
+                names[i] = requirements.get(i).getDisplayName();
+                mask.set(bits[i]);
+            }
+            byType.put(claimTypeId, new ClaimTypeRequirements(bits, names, mask));
+        });
+
+        snapshot = new Snapshot(Map.copyOf(categoryBits), Map.copyOf(byType));
+        logger.info("Document requirement index built: {} categories, {} claim types with mandatory documents",
+                categoryBits.size(), byType.size());
+    }
+
+    /**
+     * Rebuild once the surrounding transaction commits
+     */
+    public void refreshAfterCommit() {
+        TransactionHooks.afterCommit(this::rebuild);
+    }
+
+    /**
+     * Match the classified categories of a claim's documents against the
+     * mandatory requirements of its claim type
+     */
+    public Completeness check(Long claimTypeId, Collection<String> providedCategories) {
+        Snapshot current = snapshot;
+        ClaimTypeRequirements requirements = current.byClaimType.get(claimTypeId);
+        if (requirements == null) {
+            return new Completeness(0, List.of());
+        }
+
+        BitSet provided = new BitSet();
+        for (String category : providedCategories) {
+            Integer bit = current.categoryBits.get(category);
+            if (bit != null) {
+                provided.set(bit);
+            }
+        }
+
+        // Nothing missing: every mandatory bit is among the provided ones
+        BitSet missingMask = (BitSet) requirements.mandatoryMask.clone();
+        missingMask.andNot(provided);
+        if (missingMask.isEmpty()) {
+            return new Completeness(requirements.bits.length, List.of());
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < requirements.bits.length; i++) {
+            if (missingMask.get(requirements.bits[i])) {
+                missing.add(requirements.displayNames[i]);
+            }
+        }
+        return new Completeness(requirements.bits.length, missing);
+    }
+
+    /**
+     * Outcome of a completeness check
+     */
+    public static final class Completeness {
+        private final int requiredCount;
+        private final List<String> missingDocuments;
+
+        Completeness(int requiredCount, List<String> missingDocuments) {
+            this.requiredCount = requiredCount;
+            this.missingDocuments = Collections.unmodifiableList(missingDocuments);
+        }
+
+        /**
+         * Number of mandatory requirements; 0 when the claim type defines none
+         */
+        public int getRequiredCount() {
+            return requiredCount;
+        }
+
+        /**
+         * Display names of the unmet mandatory requirements, in definition order
+         */
+        public List<String> getMissingDocuments() {
+            return missingDocuments;
+        }
+
+        /**
+         * Share of mandatory requirements met, 0-100
+         */
+        public int getScore() {
+            return requiredCount == 0 ? 100 : (requiredCount - missingDocuments.size()) * 100 / requiredCount;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Integer> categoryBits; // document category -> bit index
+        private final Map<Long, ClaimTypeRequirements> byClaimType;
+
+        Snapshot(Map<String, Integer> categoryBits, Map<Long, ClaimTypeRequirements> byClaimType) {
+            this.categoryBits = categoryBits;
+            this.byClaimType = byClaimType;
+        }
+    }
+
+    // Mandatory requirements of one claim type; never mutated after construction
+    private static final class ClaimTypeRequirements {
+        private final int[] bits; // category bit of each requirement, in definition order
+        private final String[] displayNames;
+        private final BitSet mandatoryMask;
+
+        ClaimTypeRequirements(int[] bits, String[] displayNames, BitSet mandatoryMask) {
+            this.bits = bits;
+            this.displayNames = displayNames;
+            this.mandatoryMask = mandatoryMask;
+        }
+    }
+}
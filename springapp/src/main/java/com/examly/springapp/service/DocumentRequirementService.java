@@ -4,10 +4,11 @@ import com.examly.springapp.model.ClaimType;
 import com.examly.springapp.model.DocumentRequirement;
 import com.examly.springapp.repository.ClaimTypeRepository;
 import com.examly.springapp.repository.DocumentRequirementRepository;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,9 @@ public class DocumentRequirementService {
     @Autowired
     private ClaimTypeRepository claimTypeRepository;
 
+    @Autowired
+    private DocumentRequirementIndex documentRequirementIndex;
+
     /**
      * Get all document requirements for a specific claim type
      */
@@ -40,9 +44,10 @@ public class DocumentRequirementService {
 
     /**
      * Initialize default document requirements on application startup
-     * This runs once when the application starts
+     * This runs once when the application starts, after the claim types are
+     * seeded
      */
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional
     public void initializeDefaultRequirements() {
         // Check if requirements already exist
@@ -72,6 +77,7 @@ public class DocumentRequirementService {
             }
         }
 
+        documentRequirementIndex.refreshAfterCommit();
         logger.info("Default document requirements initialized successfully.");
     }
 
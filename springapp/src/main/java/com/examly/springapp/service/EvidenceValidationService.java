@@ -9,21 +9,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
 public class EvidenceValidationService {
 
     private static final Logger logger = LoggerFactory.getLogger(EvidenceValidationService.class);
-    private static final String AI_SERVICE_URL = "http://localhost:5000";
 
     @Autowired
     private EvidenceValidationResultRepository evidenceValidationResultRepository;
@@ -35,21 +33,49 @@ public class EvidenceValidationService {
     private ClaimDocumentRepository claimDocumentRepository;
 
     @Autowired
-    private DocumentRequirementRepository documentRequirementRepository;
+    private FraudResultRepository fraudResultRepository;
 
     @Autowired
-    private FraudResultRepository fraudResultRepository;
+    private DocumentRequirementIndex documentRequirementIndex;
+
+    @Autowired
+    private AiCallExecutor aiCallExecutor;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private AiResultCache aiResultCache;
 
     @Autowired
-    private DocumentRequirementService documentRequirementService;
+    private DocumentValidationResultRepository documentValidationResultRepository;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private AiBatchClient aiBatchClient;
+
+    @Autowired
+    private AiServiceClient aiServiceClient;
+
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public EvidenceValidationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
-     * Main orchestration method for evidence validation
+     * Main orchestration method for evidence validation.
+     *
+     * Deliberately not transactional: the inputs are read with short repository
+     * calls, the AI stages run without holding a connection, and only the final
+     * upsert runs in its own short transaction. Callers normally go through
+     * ValidationJobService rather than calling this on a request thread.
+     *
+     * If any document could not be fully analysed (AI service down or
+     * rejecting calls), the per-document results obtained so far are stored
+     * but no new verdict is saved: the previous result stays and the call
+     * fails, to be retried.
      */
-    @Transactional
     public EvidenceValidationResult validateClaimEvidence(Long claimId) {
         logger.info("Starting evidence validation for claim ID: {}", claimId);
 
@@ -61,46 +87,68 @@ public class EvidenceValidationService {
             // Get claim documents
             List<ClaimDocument> documents = claimDocumentRepository.findByClaimId(claimId);
 
-            // Create or get existing validation result
-            EvidenceValidationResult validationResult = evidenceValidationResultRepository
-                    .findByClaimId(claimId)
-                    .orElse(new EvidenceValidationResult());
+            // Scores are collected on a fresh result and copied onto the stored row at the end
+            EvidenceValidationResult validationResult = new EvidenceValidationResult();
 
-            validationResult.setClaim(claim);
+            // Step 1: Reuse stored per-document results; classify and OCR only new or changed documents
+            Map<Long, DocumentValidationResult> storedResults = new HashMap<>();
+            for (DocumentValidationResult stored : documentValidationResultRepository.findByClaimId(claimId)) {
+                storedResults.put(stored.getDocument().getId(), stored);
+            }
+            AnalysisRun run = analyzeChangedDocuments(documents, storedResults, claim.getClaimType());
+            List<DocumentAnalysis> analyses = run.analyses;
+
+            // A fallback classification (UNKNOWN) would report present documents as missing and send a
+            // good claim to resubmission; while the AI is unavailable keep the previous verdict instead
+            long incomplete = analyses.stream().filter(analysis -> !analysis.complete).count();
+            if (incomplete > 0) {
+                transactionTemplate.executeWithoutResult(tx -> saveDocumentResults(analyses, storedResults));
+                throw new RuntimeException("AI analysis incomplete for " + incomplete
+                        + " document(s); previous validation result kept, please retry later");
+            }
 
-            // Step 1: Check completeness
-            int completenessScore = checkCompleteness(claim, documents, validationResult);
+            // Step 2: Check completeness of the classified documents
+            int completenessScore = checkCompleteness(claim, analyses, validationResult);
             validationResult.setCompletenessScore(completenessScore);
 
-            // Step 2: Classify documents and analyze relevance
-            int relevanceScore = analyzeDocumentRelevance(documents, claim.getClaimType(), validationResult);
+            // Step 3: Analyze relevance of the classified documents
+            int relevanceScore = analyzeDocumentRelevance(analyses, claim.getClaimType(), validationResult,
+                    run.relevance);
             validationResult.setRelevanceScore(relevanceScore);
 
-            // Step 3: Extract OCR fields
-            int ocrScore = extractOcrFields(documents, validationResult);
+            // Step 4: Score OCR consistency from the same results
+            int ocrScore = extractOcrFields(analyses, validationResult);
             validationResult.setOcrConsistencyScore(ocrScore);
 
-            // Step 4: Calculate overall score
+            // Step 5: Calculate overall score
             int overallScore = calculateOverallScore(completenessScore, relevanceScore, ocrScore);
             validationResult.setOverallScore(overallScore);
 
-            // Step 5: Determine validation status
+            // Step 6: Determine validation status
             ValidationStatus status = determineStatus(completenessScore, relevanceScore, ocrScore, validationResult);
             validationResult.setStatus(status);
 
-            // Step 6: Determine workflow route
-            FraudResult fraudResult = fraudResultRepository.findByClaimId(claimId).orElse(null);
-            int fraudScore = (fraudResult != null) ? fraudResult.getFraudScore() : 0;
-            WorkflowRoute route = determineWorkflowRoute(completenessScore, relevanceScore, ocrScore, fraudScore);
-            validationResult.setRecommendedRoute(route);
-
-            // Save result
-            evidenceValidationResultRepository.save(validationResult);
+            // Step 7: Determine workflow route and save, in one short transaction
+            EvidenceValidationResult saved = transactionTemplate.execute(tx -> {
+                FraudResult fraudResult = fraudResultRepository.findByClaimId(claimId).orElse(null);
+                int fraudScore = (fraudResult != null) ? fraudResult.getFraudScore() : 0;
+                validationResult.setRecommendedRoute(
+                        determineWorkflowRoute(completenessScore, relevanceScore, ocrScore, fraudScore));
+
+                // Create or update the claim's validation result
+                EvidenceValidationResult stored = evidenceValidationResultRepository
+                        .findByClaimId(claimId)
+                        .orElse(new EvidenceValidationResult());
+                copyScores(validationResult, stored);
+                stored.setClaim(claim);
+                saveDocumentResults(analyses, storedResults);
+                return evidenceValidationResultRepository.save(stored);
+            });
 
             logger.info("Evidence validation completed for claim ID: {}. Overall Score: {}, Route: {}",
-                    claimId, overallScore, route);
+                    claimId, overallScore, saved.getRecommendedRoute());
 
-            return validationResult;
+            return saved;
 
         } catch (Exception e) {
             logger.error("Error validating evidence for claim {}: {}", claimId, e.getMessage(), e);
@@ -108,99 +156,302 @@ public class EvidenceValidationService {
         }
     }
 
+    private static void copyScores(EvidenceValidationResult from, EvidenceValidationResult to) {
+        to.setCompletenessScore(from.getCompletenessScore());
+        to.setRelevanceScore(from.getRelevanceScore());
+        to.setOcrConsistencyScore(from.getOcrConsistencyScore());
+        to.setOverallScore(from.getOverallScore());
+        to.setStatus(from.getStatus());
+        to.setRecommendedRoute(from.getRecommendedRoute());
+        to.setMissingDocuments(from.getMissingDocuments());
+        to.setWarnings(from.getWarnings());
+        to.setExtractedFields(from.getExtractedFields());
+        to.setValidationDate(LocalDateTime.now());
+    }
+
     /**
-     * Check if all required documents are present
+     * Check if all required documents are present, by matching the classified
+     * document types against the claim type's mandatory categories
      */
-    private int checkCompleteness(Claim claim, List<ClaimDocument> documents,
+    private int checkCompleteness(Claim claim, List<DocumentAnalysis> analyses,
             EvidenceValidationResult validationResult) {
         logger.debug("Checking document completeness for claim {}", claim.getId());
 
-        // Get required documents for this claim type
-        List<DocumentRequirement> requirements = documentRequirementService
-                .getMandatoryRequirements(claim.getClaimType().getId());
+        List<String> providedCategories = new ArrayList<>();
+        for (DocumentAnalysis analysis : analyses) {
+            providedCategories.add(documentTypeOf(analysis.classification));
+        }
+        DocumentRequirementIndex.Completeness completeness = documentRequirementIndex
+                .check(claim.getClaimType().getId(), providedCategories);
 
-        if (requirements.isEmpty()) {
+        if (completeness.getRequiredCount() == 0) {
             logger.warn("No requirements defined for claim type: {}", claim.getClaimType().getName());
             return 100; // No requirements = 100% complete
         }
 
-        // Track missing documents
-        List<String> missingDocs = new ArrayList<>();
+        // Store missing documents as JSON
+        try {
+            validationResult.setMissingDocuments(objectMapper.writeValueAsString(completeness.getMissingDocuments()));
+        } catch (JsonProcessingException e) {
+            logger.error("Error serializing missing documents", e);
+            validationResult.setMissingDocuments("[]");
+        }
+
+        int score = completeness.getScore();
+        logger.debug("Completeness score: {} (missing: {}, required: {})",
+                score, completeness.getMissingDocuments(), completeness.getRequiredCount());
+        return score;
+    }
+
+    /**
+     * Per-document results for every document, in document order. A stored
+     * result is reused when it completed and both the file content and the AI
+     * model version are unchanged; everything else is sent to the AI service.
+     */
+    private AnalysisRun analyzeChangedDocuments(List<ClaimDocument> documents,
+            Map<Long, DocumentValidationResult> storedResults, ClaimType claimType) {
+        Map<Long, DocumentAnalysis> byDocumentId = new HashMap<>();
+        List<ClaimDocument> toAnalyze = new ArrayList<>();
+        Map<Long, String> contentHashes = new HashMap<>();
+
+        for (ClaimDocument doc : documents) {
+            String contentSha256 = contentHashOf(doc);
+            contentHashes.put(doc.getId(), contentSha256);
+            DocumentValidationResult stored = storedResults.get(doc.getId());
+            if (stored != null && stored.isComplete() && contentSha256 != null
+                    && contentSha256.equals(stored.getContentSha256())
+                    && aiResultCache.getModelVersion().equals(stored.getModelVersion())) {
+                byDocumentId.put(doc.getId(), DocumentAnalysis.fromStored(doc, stored, objectMapper));
+            } else {
+                toAnalyze.add(doc);
+            }
+        }
+        logger.debug("Reusing {} stored document results, analyzing {} documents",
+                byDocumentId.size(), toAnalyze.size());
+
+        // Relevance can come back with the batch only when nothing was reused
+        AnalysisRun batch = analyzeDocumentsInBatch(toAnalyze, contentHashes,
+                toAnalyze.size() == documents.size() ? claimType.getName() : null);
+        for (DocumentAnalysis analysis : batch.analyses) {
+            byDocumentId.put(analysis.document.getId(), analysis);
+        }
+
+        List<DocumentAnalysis> analyses = new ArrayList<>();
+        for (ClaimDocument doc : documents) {
+            analyses.add(byDocumentId.get(doc.getId()));
+        }
+        return new AnalysisRun(analyses, batch.relevance);
+    }
 
-        // For now, we'll do a simple count-based completeness
-        // In a real system, you'd classify each document and match to requirements
-        int requiredCount = requirements.size();
-        int providedCount = documents.size();
+    private String contentHashOf(ClaimDocument doc) {
+        try {
+            return AiResultCache.sha256(fileStorageService.resolveDocumentPath(doc));
+        } catch (Exception e) {
+            logger.warn("Could not hash document {}: {}", doc.getId(), e.getMessage());
+            return null;
+        }
+    }
 
-        if (providedCount < requiredCount) {
-            // Identify which specific requirements are missing
-            for (DocumentRequirement req : requirements) {
-                // This is simplified - in reality, you'd classify documents and match
-                // categories
-                missingDocs.add(req.getDisplayName());
+    /**
+     * Classify and OCR documents with one batch request to the AI service.
+     * Documents whose classification and OCR are both cached are not sent.
+     * When the batch request fails as a whole (e.g. an AI service without the
+     * batch endpoint) this falls back to per-document calls.
+     */
+    private AnalysisRun analyzeDocumentsInBatch(List<ClaimDocument> documents, Map<Long, String> contentHashes,
+            String claimTypeName) {
+        List<DocumentAnalysis> analyses = new ArrayList<>();
+        List<ClaimDocument> toSend = new ArrayList<>();
+        for (ClaimDocument doc : documents) {
+            DocumentAnalysis cached = cachedAnalysis(doc, contentHashes.get(doc.getId()));
+            if (cached != null) {
+                analyses.add(cached);
+            } else {
+                toSend.add(doc);
             }
-            // Limit to actual missing count
-            int actuallyMissing = requiredCount - providedCount;
-            missingDocs = missingDocs.subList(0, Math.min(actuallyMissing, missingDocs.size()));
+        }
+        if (toSend.isEmpty()) {
+            return new AnalysisRun(analyses, null);
         }
 
-        // Store missing documents as JSON
+        AiBatchClient.BatchResponse response;
         try {
-            validationResult.setMissingDocuments(objectMapper.writeValueAsString(missingDocs));
-        } catch (JsonProcessingException e) {
-            logger.error("Error serializing missing documents", e);
-            validationResult.setMissingDocuments("[]");
+            List<Path> files = new ArrayList<>();
+            for (ClaimDocument doc : toSend) {
+                files.add(fileStorageService.resolveDocumentPath(doc));
+            }
+            response = aiBatchClient.analyze(files, toSend.size() == documents.size() ? claimTypeName : null);
+        } catch (AiServiceClient.AiServiceUnavailableException e) {
+            // Per-document calls would be rejected just the same; mark all for retry next run
+            logger.warn("Skipping document analysis: {}", e.getMessage());
+            for (ClaimDocument doc : toSend) {
+                analyses.add(toAnalysis(doc, contentHashes.get(doc.getId()), null, null));
+            }
+            return new AnalysisRun(analyses, null);
+        } catch (Exception e) {
+            logger.warn("Batch document analysis failed, falling back to per-document calls: {}", e.getMessage());
+            analyses.addAll(analyzeDocuments(toSend, contentHashes));
+            return new AnalysisRun(analyses, null);
         }
 
-        // Calculate score: (providedCount / requiredCount) * 100
-        int score = Math.min(100, (providedCount * 100) / requiredCount);
+        boolean allComplete = true;
+        for (int i = 0; i < toSend.size(); i++) {
+            ClaimDocument doc = toSend.get(i);
+            AiBatchClient.DocumentResult result = response.getDocuments().get(i);
+            if (result.getError() != null) {
+                logger.error("Error analyzing document {}: {}", doc.getId(), result.getError());
+            }
+            DocumentAnalysis analysis = toAnalysis(doc, contentHashes.get(doc.getId()),
+                    result.getClassification(), result.getOcr());
+            allComplete &= analysis.complete;
+            if (analysis.complete && analysis.contentSha256 != null) {
+                // Same entries the per-document calls would have produced
+                aiResultCache.put(analysis.contentSha256, "/api/classify-evidence", Map.of(),
+                        result.getClassification());
+                aiResultCache.put(analysis.contentSha256, "/api/extract-ocr",
+                        Map.of("document_type", documentTypeOf(result.getClassification())), result.getOcr());
+            }
+            analyses.add(analysis);
+        }
+        // Computed over successful documents only, so unusable when fallbacks stand in for some
+        return new AnalysisRun(analyses, allComplete ? response.getRelevance() : null);
+    }
 
-        logger.debug("Completeness score: {} (provided: {}, required: {})", score, providedCount, requiredCount);
-        return score;
+    // Classification and OCR both from the result cache, or null
+    private DocumentAnalysis cachedAnalysis(ClaimDocument doc, String contentSha256) {
+        if (contentSha256 == null) {
+            return null;
+        }
+        Map<String, Object> classification = aiResultCache.getIfPresent(contentSha256, "/api/classify-evidence",
+                Map.of(), Map.class);
+        if (classification == null) {
+            return null;
+        }
+        Map<String, Object> ocr = aiResultCache.getIfPresent(contentSha256, "/api/extract-ocr",
+                Map.of("document_type", documentTypeOf(classification)), Map.class);
+        if (ocr == null) {
+            return null;
+        }
+        return toAnalysis(doc, contentSha256, classification, ocr);
+    }
+
+    private static String documentTypeOf(Map<String, Object> classification) {
+        return (String) classification.getOrDefault("documentType", "UNKNOWN");
+    }
+
+    /**
+     * Classify each document and OCR it with the classified type, documents in
+     * parallel. Used when the batch endpoint is unavailable.
+     */
+    private List<DocumentAnalysis> analyzeDocuments(List<ClaimDocument> documents, Map<Long, String> contentHashes) {
+        return aiCallExecutor.mapConcurrently(documents, doc -> {
+            String contentSha256 = contentHashes.get(doc.getId());
+            try {
+                // Call AI service to classify document
+                Map<String, Object> classification = classifyDocument(doc);
+
+                // Extract OCR fields
+                Map<String, Object> ocrData = extractOcrFromDocument(doc,
+                        classification != null ? documentTypeOf(classification) : "UNKNOWN");
+
+                return toAnalysis(doc, contentSha256, classification, ocrData);
+
+            } catch (Exception e) {
+                logger.error("Error analyzing document {}: {}", doc.getId(), e.getMessage());
+                // Placeholder for failed classification; no OCR result
+                Map<String, Object> placeholder = new HashMap<>();
+                placeholder.put("documentType", "UNKNOWN");
+                placeholder.put("confidence", 0);
+                return new DocumentAnalysis(doc, placeholder, null, contentSha256, false, true);
+            }
+        });
+    }
+
+    /**
+     * A freshly analyzed document, with fallbacks standing in for a missing
+     * classification (UNKNOWN, confidence 0) or OCR result (no fields,
+     * confidence 50). Such an analysis is incomplete and retried next run.
+     */
+    private static DocumentAnalysis toAnalysis(ClaimDocument doc, String contentSha256,
+            Map<String, Object> classification, Map<String, Object> ocr) {
+        boolean complete = classification != null && ocr != null;
+        if (classification == null) {
+            classification = new HashMap<>();
+            classification.put("documentType", "UNKNOWN");
+            classification.put("confidence", 0);
+        }
+        if (ocr == null) {
+            ocr = new HashMap<>();
+            ocr.put("extractedFields", new HashMap<>());
+            ocr.put("confidence", 50);
+        }
+        return new DocumentAnalysis(doc, classification, ocr, contentSha256, complete, true);
+    }
+
+    /**
+     * Insert or update the stored result of each document analyzed in this run.
+     * Must run inside the final transaction.
+     */
+    private void saveDocumentResults(List<DocumentAnalysis> analyses,
+            Map<Long, DocumentValidationResult> storedResults) {
+        List<DocumentValidationResult> toSave = new ArrayList<>();
+        for (DocumentAnalysis analysis : analyses) {
+            if (!analysis.fresh) {
+                continue;
+            }
+            DocumentValidationResult result = storedResults.get(analysis.document.getId());
+            if (result == null) {
+                result = new DocumentValidationResult();
+                result.setDocument(analysis.document);
+            }
+            result.setContentSha256(analysis.contentSha256);
+            result.setModelVersion(aiResultCache.getModelVersion());
+            result.setDocumentType((String) analysis.classification.get("documentType"));
+            Object classificationConfidence = analysis.classification.get("confidence");
+            result.setClassificationConfidence(classificationConfidence instanceof Number n ? n.intValue() : null);
+            if (analysis.ocr != null) {
+                Object ocrConfidence = analysis.ocr.get("confidence");
+                result.setOcrConfidence(ocrConfidence instanceof Number n ? n.intValue() : null);
+                try {
+                    result.setExtractedFields(objectMapper.writeValueAsString(
+                            analysis.ocr.getOrDefault("extractedFields", new HashMap<>())));
+                } catch (JsonProcessingException e) {
+                    logger.error("Error serializing extracted fields of document {}", analysis.document.getId(), e);
+                    result.setExtractedFields("{}");
+                }
+            } else {
+                result.setOcrConfidence(null);
+                result.setExtractedFields(null);
+            }
+            result.setComplete(analysis.complete);
+            result.setAnalyzedAt(LocalDateTime.now());
+            toSave.add(result);
+        }
+        documentValidationResultRepository.saveAll(toSave);
     }
 
     /**
      * Analyze if documents are relevant to claim type
      */
-    private int analyzeDocumentRelevance(List<ClaimDocument> documents, ClaimType claimType,
-            EvidenceValidationResult validationResult) {
+    private int analyzeDocumentRelevance(List<DocumentAnalysis> analyses, ClaimType claimType,
+            EvidenceValidationResult validationResult, Map<String, Object> batchRelevance) {
         logger.debug("Analyzing document relevance for claim type: {}", claimType.getName());
 
-        if (documents.isEmpty()) {
+        if (analyses.isEmpty()) {
             logger.warn("No documents to analyze");
             return 0;
         }
 
         try {
-            // Classify each document and extract OCR data
+            // Combine classification and OCR data per document
             List<Map<String, Object>> classifiedDocs = new ArrayList<>();
-
-            for (ClaimDocument doc : documents) {
-                try {
-                    // Call AI service to classify document
-                    Map<String, Object> classification = classifyDocument(doc);
-
-                    // Extract OCR fields
-                    Map<String, Object> ocrData = extractOcrFromDocument(doc,
-                            (String) classification.getOrDefault("documentType", "UNKNOWN"));
-
-                    // Combine classification and OCR data
-                    Map<String, Object> documentData = new HashMap<>();
-                    documentData.put("documentType", classification.get("documentType"));
-                    documentData.put("confidence", classification.get("confidence"));
-                    documentData.put("extractedFields", ocrData.get("extractedFields"));
-
-                    classifiedDocs.add(documentData);
-
-                } catch (Exception e) {
-                    logger.error("Error classifying document {}: {}", doc.getId(), e.getMessage());
-                    // Add placeholder for failed classification
-                    Map<String, Object> placeholderDoc = new HashMap<>();
-                    placeholderDoc.put("documentType", "UNKNOWN");
-                    placeholderDoc.put("confidence", 0);
-                    placeholderDoc.put("extractedFields", new HashMap<>());
-                    classifiedDocs.add(placeholderDoc);
-                }
+            for (DocumentAnalysis analysis : analyses) {
+                Map<String, Object> documentData = new HashMap<>();
+                documentData.put("documentType", analysis.classification.get("documentType"));
+                documentData.put("confidence", analysis.classification.get("confidence"));
+                documentData.put("extractedFields",
+                        analysis.ocr != null ? analysis.ocr.get("extractedFields") : new HashMap<>());
+                classifiedDocs.add(documentData);
             }
 
             // Call AI service to analyze relevance
@@ -208,16 +459,23 @@ public class EvidenceValidationService {
             relevanceRequest.put("claimType", claimType.getName());
             relevanceRequest.put("documents", classifiedDocs);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(relevanceRequest, headers);
+            Map<String, Object> relevanceResult = aiResultCache.getOrCompute(relevanceRequest,
+                    "/api/analyze-relevance", Map.class, () -> {
+                        // Already computed by the batch request over these same documents
+                        if (batchRelevance != null) {
+                            return batchRelevance;
+                        }
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.setContentType(MediaType.APPLICATION_JSON);
+                        HttpEntity<Map<String, Object>> request = new HttpEntity<>(relevanceRequest, headers);
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    AI_SERVICE_URL + "/api/analyze-relevance",
-                    request,
-                    Map.class);
+                        ResponseEntity<Map> response = aiServiceClient.post(
+                                "/api/analyze-relevance",
+                                request,
+                                Map.class);
 
-            Map<String, Object> relevanceResult = response.getBody();
+                        return response.getBody();
+                    });
 
             if (relevanceResult != null && relevanceResult.containsKey("relevanceScore")) {
                 int relevanceScore = ((Number) relevanceResult.get("relevanceScore")).intValue();
@@ -244,41 +502,36 @@ public class EvidenceValidationService {
     }
 
     /**
-     * Classify a document using AI service
+     * Classify a document using AI service; null when the call failed
      */
     private Map<String, Object> classifyDocument(ClaimDocument doc) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("image", new FileSystemResource(doc.getFileUrl()));
-
-            HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    AI_SERVICE_URL + "/api/classify-evidence",
-                    request,
-                    Map.class);
-
-            return response.getBody();
+            Path file = fileStorageService.resolveDocumentPath(doc);
+            return aiResultCache.getOrCompute(file, "/api/classify-evidence", Map.of(), Map.class, () -> {
+                StreamingMultipartBody body = new StreamingMultipartBody()
+                        .addFile("image", file);
+
+                ResponseEntity<Map> response = aiServiceClient.postMultipart(
+                        "/api/classify-evidence",
+                        body,
+                        Map.class);
+
+                return response.getBody();
+            });
         } catch (Exception e) {
             logger.error("Error classifying document: {}", e.getMessage());
-            Map<String, Object> fallback = new HashMap<>();
-            fallback.put("documentType", "UNKNOWN");
-            fallback.put("confidence", 0);
-            return fallback;
+            return null; // caller substitutes an UNKNOWN classification and retries next run
         }
     }
 
     /**
-     * Extract OCR fields using AI service
+     * Score OCR consistency and collect extracted fields from the OCR results
      */
-    private int extractOcrFields(List<ClaimDocument> documents,
+    private int extractOcrFields(List<DocumentAnalysis> analyses,
             EvidenceValidationResult validationResult) {
-        logger.debug("Extracting OCR fields from {} documents", documents.size());
+        logger.debug("Collecting OCR fields from {} documents", analyses.size());
 
-        if (documents.isEmpty()) {
+        if (analyses.isEmpty()) {
             return 100; // No documents = no OCR issues
         }
 
@@ -287,20 +540,15 @@ public class EvidenceValidationService {
             int totalConfidence = 0;
             int docCount = 0;
 
-            for (ClaimDocument doc : documents) {
-                try {
-                    Map<String, Object> ocrData = extractOcrFromDocument(doc, "UNKNOWN");
-
-                    if (ocrData.containsKey("extractedFields")) {
-                        allExtractedFields.put("document_" + doc.getId(), ocrData.get("extractedFields"));
+            for (DocumentAnalysis analysis : analyses) {
+                Map<String, Object> ocrData = analysis.ocr;
+                if (ocrData != null && ocrData.containsKey("extractedFields")) {
+                    allExtractedFields.put("document_" + analysis.document.getId(), ocrData.get("extractedFields"));
 
-                        if (ocrData.containsKey("confidence")) {
-                            totalConfidence += ((Number) ocrData.get("confidence")).intValue();
-                            docCount++;
-                        }
+                    if (ocrData.containsKey("confidence")) {
+                        totalConfidence += ((Number) ocrData.get("confidence")).intValue();
+                        docCount++;
                     }
-                } catch (Exception e) {
-                    logger.error("Error extracting OCR from document {}: {}", doc.getId(), e.getMessage());
                 }
             }
 
@@ -324,31 +572,27 @@ public class EvidenceValidationService {
     }
 
     /**
-     * Extract OCR from a single document
+     * Extract OCR from a single document; null when the call failed
      */
     private Map<String, Object> extractOcrFromDocument(ClaimDocument doc, String documentType) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("image", new FileSystemResource(doc.getFileUrl()));
-            body.add("document_type", documentType);
-
-            HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    AI_SERVICE_URL + "/api/extract-ocr",
-                    request,
-                    Map.class);
-
-            return response.getBody();
+            Path file = fileStorageService.resolveDocumentPath(doc);
+            return aiResultCache.getOrCompute(file, "/api/extract-ocr", Map.of("document_type", documentType),
+                    Map.class, () -> {
+                        StreamingMultipartBody body = new StreamingMultipartBody()
+                                .addFile("image", file)
+                                .addField("document_type", documentType);
+
+                        ResponseEntity<Map> response = aiServiceClient.postMultipart(
+                                "/api/extract-ocr",
+                                body,
+                                Map.class);
+
+                        return response.getBody();
+                    });
         } catch (Exception e) {
             logger.error("Error extracting OCR: {}", e.getMessage());
-            Map<String, Object> fallback = new HashMap<>();
-            fallback.put("extractedFields", new HashMap<>());
-            fallback.put("confidence", 50);
-            return fallback;
+            return null; // caller substitutes a neutral result and retries next run
         }
     }
 
@@ -423,4 +667,60 @@ public class EvidenceValidationService {
     public Optional<EvidenceValidationResult> getValidationResult(Long claimId) {
         return evidenceValidationResultRepository.findByClaimId(claimId);
     }
+
+    /**
+     * Per-document analyses of a run, and relevance when the batch request
+     * already computed it
+     */
+    private static class AnalysisRun {
+        private final List<DocumentAnalysis> analyses;
+        private final Map<String, Object> relevance;
+
+        AnalysisRun(List<DocumentAnalysis> analyses, Map<String, Object> relevance) {
+            this.analyses = analyses;
+            this.relevance = relevance;
+        }
+    }
+
+    /**
+     * Classification and OCR output for one document in a validation run
+     */
+    private static class DocumentAnalysis {
+        private final ClaimDocument document;
+        private final Map<String, Object> classification;
+        private final Map<String, Object> ocr; // null when the document could not be processed
+        private final String contentSha256;
+        private final boolean complete; // false when a fallback stood in for an AI result
+        private final boolean fresh; // analyzed in this run, as opposed to read from storage
+
+        DocumentAnalysis(ClaimDocument document, Map<String, Object> classification, Map<String, Object> ocr,
+                String contentSha256, boolean complete, boolean fresh) {
+            this.document = document;
+            this.classification = classification;
+            this.ocr = ocr;
+            this.contentSha256 = contentSha256;
+            this.complete = complete;
+            this.fresh = fresh;
+        }
+
+        static DocumentAnalysis fromStored(ClaimDocument document, DocumentValidationResult stored,
+                ObjectMapper objectMapper) {
+            Map<String, Object> classification = new HashMap<>();
+            classification.put("documentType", stored.getDocumentType());
+            classification.put("confidence", stored.getClassificationConfidence());
+
+            Map<String, Object> ocr = new HashMap<>();
+            try {
+                ocr.put("extractedFields", stored.getExtractedFields() != null
+                        ? objectMapper.readValue(stored.getExtractedFields(), Map.class)
+                        : new HashMap<>());
+            } catch (JsonProcessingException e) {
+                ocr.put("extractedFields", new HashMap<>());
+            }
+            if (stored.getOcrConfidence() != null) {
+                ocr.put("confidence", stored.getOcrConfidence());
+            }
+            return new DocumentAnalysis(document, classification, ocr, stored.getContentSha256(), true, false);
+        }
+    }
 }
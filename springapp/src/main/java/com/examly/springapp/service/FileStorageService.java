@@ -2,7 +2,9 @@ package com.examly.springapp.service;
 
 import com.examly.springapp.model.Claim;
 import com.examly.springapp.model.ClaimDocument;
+import com.examly.springapp.model.FraudResult;
 import com.examly.springapp.repository.ClaimDocumentRepository;
+import com.examly.springapp.repository.ClaimRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -10,15 +12,16 @@ import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import com.examly.springapp.dto.FraudAnalysisDTO;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
 import java.util.UUID;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class FileStorageService {
@@ -27,6 +30,9 @@ public class FileStorageService {
     @Autowired
     private ClaimDocumentRepository documentRepository;
 
+    @Autowired
+    private ClaimRepository claimRepository;
+
     @Autowired
     private ClaimService claimService;
 
@@ -65,7 +71,10 @@ public class FileStorageService {
             String fileUrl = "/api/documents/" + newFileName;
 
             ClaimDocument doc = new ClaimDocument(claim, originalFileName, fileUrl, file.getContentType());
-            return documentRepository.save(doc);
+            ClaimDocument saved = documentRepository.save(doc);
+            // The document list is part of the claim details, so invalidate its ETag
+            claimRepository.incrementVersion(claimId);
+            return saved;
 
         } catch (IOException ex) {
             throw new RuntimeException("Could not store file " + newFileName + ". Please try again!", ex);
@@ -86,22 +95,32 @@ public class FileStorageService {
         }
     }
 
-    public void analyzeFraudForDocument(ClaimDocument document) {
-        try {
-            // Get the physical file from storage
-            Path filePath = this.fileStorageLocation.resolve(getFileNameFromUrl(document.getFileUrl())).normalize();
-
+    /**
+     * Analyze all image documents of a claim for fraud and store the
+     * aggregated result; images whose file is missing on disk are skipped
+     *
+     * @return the claim's fraud result, or null when none of the files exist
+     */
+    public FraudResult analyzeFraudForImages(Long claimId, List<ClaimDocument> imageDocuments) {
+        Map<ClaimDocument, Path> images = new LinkedHashMap<>();
+        for (ClaimDocument document : imageDocuments) {
+            Path filePath = resolveDocumentPath(document);
             if (Files.exists(filePath)) {
-                // Analyze the image for fraud
-                FraudAnalysisDTO analysis = fraudService.analyzeImage(filePath.toFile());
-
-                // Save fraud result linked to the claim
-                fraudService.saveFraudResult(document.getClaim(), analysis);
+                images.put(document, filePath);
             }
-        } catch (Exception e) {
-            System.err.println("Error analyzing document for fraud: " + e.getMessage());
-            e.printStackTrace();
         }
+        if (images.isEmpty()) {
+            return null;
+        }
+        Claim claim = claimService.getClaimById(claimId);
+        return fraudService.analyzeClaimImages(claim, images);
+    }
+
+    /**
+     * Location on disk of a stored document (its fileUrl is the download URL)
+     */
+    public Path resolveDocumentPath(ClaimDocument document) {
+        return this.fileStorageLocation.resolve(getFileNameFromUrl(document.getFileUrl())).normalize();
     }
 
     private String getFileNameFromUrl(String fileUrl) {
@@ -0,0 +1,141 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.repository.FraudResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory histograms of fraud scores, overall, per claim type and per
+ * image status, for reviewing the workflow routing thresholds.
+ *
+ * Each histogram has one bucket per integer score 0-100, so percentiles are
+ * exact. The histograms are loaded with one GROUP BY query when the
+ * application is ready and afterwards maintained incrementally as fraud
+ * results are saved, replaced and deleted, applied only after the
+ * surrounding transaction commits.
+ */
+@Service
+public class FraudScoreDistributionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FraudScoreDistributionService.class);
+    private static final int BUCKETS = 101; // scores 0-100
+    private static final String UNKNOWN_CLAIM_TYPE = "Unknown";
+
+    @Autowired
+    private FraudResultRepository fraudResultRepository;
+
+    private final Object lock = new Object();
+    private final long[] overall = new long[BUCKETS];
+    private final Map<String, long[]> byClaimType = new HashMap<>();
+    private final Map<FraudResult.ImageStatus, long[]> byImageStatus = new EnumMap<>(FraudResult.ImageStatus.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (lock) {
+            Arrays.fill(overall, 0);
+            byClaimType.clear();
+            byImageStatus.clear();
+            long total = 0;
+            for (Object[] row : fraudResultRepository.countByClaimTypeStatusAndScore()) {
+                long count = (Long) row[3];
+                add((String) row[0], (FraudResult.ImageStatus) row[1], (Integer) row[2], count);
+                total += count;
+            }
+            logger.info("Fraud score distribution loaded: {} results", total);
+        }
+    }
+
+    /**
+     * Record a saved fraud result, replacing the claim's previous one if
+     * {@code previousStatus} is not null
+     */
+    public void recordSaved(String claimType, FraudResult.ImageStatus previousStatus, Integer previousScore,
+            FraudResult.ImageStatus status, Integer score) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                if (previousStatus != null) {
+                    add(claimType, previousStatus, previousScore, -1);
+                }
+                add(claimType, status, score, 1);
+            }
+        });
+    }
+
+    public void recordDeleted(String claimType, FraudResult.ImageStatus status, Integer score) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                add(claimType, status, score, -1);
+            }
+        });
+    }
+
+    /**
+     * Count, p50/p90/p99 and bucket counts of every histogram
+     */
+    public Map<String, Object> getDistribution() {
+        synchronized (lock) {
+            Map<String, Object> types = new HashMap<>();
+            byClaimType.forEach((type, buckets) -> types.put(type, summarize(buckets)));
+            Map<String, Object> statuses = new HashMap<>();
+            byImageStatus.forEach((status, buckets) -> statuses.put(status.name(), summarize(buckets)));
+
+            Map<String, Object> distribution = new HashMap<>();
+            distribution.put("overall", summarize(overall));
+            distribution.put("byClaimType", types);
+            distribution.put("byImageStatus", statuses);
+            return distribution;
+        }
+    }
+
+    // Callers must hold the lock
+    private void add(String claimType, FraudResult.ImageStatus status, Integer score, long delta) {
+        if (status == null || score == null) {
+            return;
+        }
+        int bucket = Math.max(0, Math.min(BUCKETS - 1, score));
+        overall[bucket] += delta;
+        byClaimType.computeIfAbsent(claimType != null ? claimType : UNKNOWN_CLAIM_TYPE,
+                type -> new long[BUCKETS])[bucket] += delta;
+        byImageStatus.computeIfAbsent(status, s -> new long[BUCKETS])[bucket] += delta;
+    }
+
+    private static Map<String, Object> summarize(long[] buckets) {
+        long count = 0;
+        for (long bucketCount : buckets) {
+            count += bucketCount;
+        }
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("count", count);
+        summary.put("p50", percentile(buckets, count, 50));
+        summary.put("p90", percentile(buckets, count, 90));
+        summary.put("p99", percentile(buckets, count, 99));
+        summary.put("buckets", buckets.clone());
+        return summary;
+    }
+
+    // Nearest-rank percentile: the lowest score with at least p% of results at or below it
+    private static Integer percentile(long[] buckets, long count, int p) {
+        if (count <= 0) {
+            return null;
+        }
+        long rank = (count * p + 99) / 100;
+        long seen = 0;
+        for (int score = 0; score < buckets.length; score++) {
+            seen += buckets[score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return buckets.length - 1;
+    }
+}
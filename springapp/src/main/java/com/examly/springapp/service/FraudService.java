@@ -2,20 +2,32 @@ package com.examly.springapp.service;
 
 import com.examly.springapp.dto.FraudAnalysisDTO;
 import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimDocument;
+import com.examly.springapp.model.FraudImageResult;
 import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.repository.FraudImageResultRepository;
 import com.examly.springapp.repository.FraudResultRepository;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 public class FraudService {
@@ -23,80 +35,269 @@ public class FraudService {
     private static final Logger logger = LoggerFactory.getLogger(FraudService.class);
 
     private final FraudResultRepository fraudResultRepository;
-    private final RestTemplate restTemplate;
+    private final AiServiceClient aiServiceClient;
     private final ObjectMapper objectMapper;
-
-    @Value("${ai.service.url:http://localhost:5000}")
-    private String aiServiceUrl;
+    private final AiResultCache aiResultCache;
+    private final AiCallExecutor aiCallExecutor;
+    private final FraudImageResultRepository fraudImageResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FraudStatisticsService fraudStatisticsService;
+    private final FraudScoreDistributionService fraudScoreDistributionService;
+    // Claim id -> analysis in progress, shared by concurrent requests for that claim
+    private final ConcurrentMap<Long, CompletableFuture<FraudResult>> analysesInFlight = new ConcurrentHashMap<>();
 
     @Value("${ai.fraud.auto-analyze:true}")
     private boolean autoAnalyze;
 
-    public FraudService(FraudResultRepository fraudResultRepository, ObjectMapper objectMapper) {
+    // Images of one claim analysed at once; all of them in one round keeps a claim's latency near one image's
+    @Value("${ai.fraud.max-concurrent-images:10}")
+    private int maxConcurrentImages;
+
+    public FraudService(FraudResultRepository fraudResultRepository, ObjectMapper objectMapper,
+            AiResultCache aiResultCache, AiServiceClient aiServiceClient, AiCallExecutor aiCallExecutor,
+            FraudImageResultRepository fraudImageResultRepository, PlatformTransactionManager transactionManager,
+            FraudStatisticsService fraudStatisticsService,
+            FraudScoreDistributionService fraudScoreDistributionService) {
         this.fraudResultRepository = fraudResultRepository;
-        this.restTemplate = new RestTemplate();
+        this.aiServiceClient = aiServiceClient;
         this.objectMapper = objectMapper;
+        this.aiResultCache = aiResultCache;
+        this.aiCallExecutor = aiCallExecutor;
+        this.fraudImageResultRepository = fraudImageResultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fraudStatisticsService = fraudStatisticsService;
+        this.fraudScoreDistributionService = fraudScoreDistributionService;
     }
 
     /**
-     * Analyze an image file for fraud indicators
+     * Analyze an image file for fraud indicators; a placeholder analysis
+     * recommending manual review is returned when the AI call fails
      */
     public FraudAnalysisDTO analyzeImage(File imageFile) {
+        FraudAnalysisDTO analysis = requestAnalysis(imageFile);
+        return analysis != null ? analysis : createDefaultAnalysis("AI service unavailable");
+    }
+
+    // The AI service's analysis of an image, or null when it could not be obtained
+    private FraudAnalysisDTO requestAnalysis(File imageFile) {
         try {
             logger.info("Sending image to AI service for fraud analysis: {}", imageFile.getName());
 
-            // Prepare multipart request
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+            // Identical image bytes are analysed once; later calls are served from the cache
+            FraudAnalysisDTO analysis = aiResultCache.getOrCompute(imageFile.toPath(), "/api/analyze", Map.of(),
+                    FraudAnalysisDTO.class, () -> {
+                        // Prepare multipart request; the image is streamed from disk
+                        StreamingMultipartBody body = new StreamingMultipartBody()
+                                .addFile("image", imageFile.toPath());
 
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("image", new FileSystemResource(imageFile));
+                        // Call AI service
+                        ResponseEntity<FraudAnalysisDTO> response = aiServiceClient.postMultipart(
+                                "/api/analyze",
+                                body,
+                                FraudAnalysisDTO.class);
 
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+                        return response.getStatusCode() == HttpStatus.OK ? response.getBody() : null;
+                    });
 
-            // Call AI service
-            String url = aiServiceUrl + "/api/analyze";
-            ResponseEntity<FraudAnalysisDTO> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    FraudAnalysisDTO.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            if (analysis != null) {
                 logger.info("Fraud analysis completed. Score: {}, Status: {}",
-                        response.getBody().getFraudScore(),
-                        response.getBody().getImageStatus());
-                return response.getBody();
+                        analysis.getFraudScore(),
+                        analysis.getImageStatus());
             } else {
                 logger.warn("AI service returned unexpected response");
-                return createDefaultAnalysis("AI service unavailable");
             }
+            return analysis;
 
+        } catch (AiServiceClient.AiServiceUnavailableException e) {
+            // Breaker open or bulkhead full: fall back at once, no stack trace per call
+            logger.warn("Skipping fraud analysis: {}", e.getMessage());
+            return null;
         } catch (Exception e) {
             logger.error("Error calling AI fraud detection service: {}", e.getMessage(), e);
-            return createDefaultAnalysis("Analysis failed: " + e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Save fraud analysis result to database
+     * Analyze all images of a claim concurrently and store the aggregate as
+     * the claim's fraud result, together with the per-image breakdown.
+     *
+     * The claim takes the highest fraud score and the most severe status of
+     * its images. Its confidence is the average of the images' confidences
+     * weighted by their fraud scores, so the images that drive the verdict
+     * count most. Details and remarks come from the highest-scoring image.
+     *
+     * Images the AI service could not analyse are kept in the breakdown with
+     * a manual-review placeholder but left out of the aggregate, which is
+     * then marked incomplete. When no image could be analysed nothing is
+     * saved and the analysis fails.
+     *
+     * Concurrent requests for the same claim (a double-clicked "Generate",
+     * two agents on one claim) share a single in-flight analysis and its
+     * result rather than each calling the AI service.
+     *
+     * @param images image documents of the claim and their files on disk,
+     *               in upload order
      */
-    public FraudResult saveFraudResult(Claim claim, FraudAnalysisDTO analysis) {
+    public FraudResult analyzeClaimImages(Claim claim, Map<ClaimDocument, Path> images) {
+        if (images.isEmpty()) {
+            throw new RuntimeException("No image documents to analyze for claim " + claim.getId());
+        }
+
+        CompletableFuture<FraudResult> flight = new CompletableFuture<>();
+        CompletableFuture<FraudResult> leader = analysesInFlight.putIfAbsent(claim.getId(), flight);
+        if (leader != null) {
+            logger.info("Joining in-flight fraud analysis of claim {}", claim.getId());
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
         try {
-            FraudResult fraudResult = new FraudResult();
-            fraudResult.setClaim(claim);
-            fraudResult.setImageStatus(FraudResult.ImageStatus.valueOf(analysis.getImageStatus()));
-            fraudResult.setFraudScore(analysis.getFraudScore());
-            fraudResult.setConfidence(analysis.getConfidence());
-            fraudResult.setRemarks(analysis.getRemarks());
-
-            // Convert details to JSON string
-            if (analysis.getDetails() != null) {
-                String detailsJson = objectMapper.writeValueAsString(analysis.getDetails());
-                fraudResult.setDetails(detailsJson);
+            FraudResult result = analyzeAndSave(claim, images);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            analysesInFlight.remove(claim.getId(), flight);
+        }
+    }
+
+    private FraudResult analyzeAndSave(Claim claim, Map<ClaimDocument, Path> images) {
+        List<ClaimDocument> documents = new ArrayList<>(images.keySet());
+        long start = System.currentTimeMillis();
+        // A failed image comes back as null, so one bad image does not fail the claim
+        List<FraudAnalysisDTO> analyses = aiCallExecutor.mapConcurrently(documents, maxConcurrentImages,
+                doc -> requestAnalysis(images.get(doc).toFile()));
+        logger.info("Analyzed {} images of claim {} in {} ms", documents.size(), claim.getId(),
+                System.currentTimeMillis() - start);
+
+        int failed = 0;
+        for (FraudAnalysisDTO analysis : analyses) {
+            if (analysis == null) {
+                failed++;
+            }
+        }
+        if (failed == documents.size()) {
+            throw new RuntimeException("AI analysis failed for every image of claim " + claim.getId());
+        }
+
+        try {
+            List<FraudImageResult> imageResults = new ArrayList<>(documents.size());
+            int top = -1;
+            FraudResult.ImageStatus worst = FraudResult.ImageStatus.GENUINE;
+            long weightedConfidence = 0;
+            long weights = 0;
+            int flagged = 0;
+            for (int i = 0; i < documents.size(); i++) {
+                FraudAnalysisDTO analysis = analyses.get(i);
+                if (analysis == null) {
+                    imageResults.add(toImageResult(claim, documents.get(i),
+                            createDefaultAnalysis("AI service unavailable")));
+                    continue;
+                }
+                FraudImageResult imageResult = toImageResult(claim, documents.get(i), analysis);
+                imageResults.add(imageResult);
+
+                if (top < 0 || analysis.getFraudScore() > analyses.get(top).getFraudScore()) {
+                    top = i;
+                }
+                if (imageResult.getImageStatus().compareTo(worst) > 0) {
+                    worst = imageResult.getImageStatus();
+                }
+                if (imageResult.getImageStatus() != FraudResult.ImageStatus.GENUINE) {
+                    flagged++;
+                }
+                // Every image carries some weight, so an all-genuine claim averages evenly
+                int weight = Math.max(analysis.getFraudScore(), 1);
+                weightedConfidence += (long) weight * analysis.getConfidence();
+                weights += weight;
+            }
+
+            FraudAnalysisDTO topAnalysis = analyses.get(top);
+            FraudAnalysisDTO aggregate = new FraudAnalysisDTO();
+            aggregate.setImageStatus(worst.name());
+            aggregate.setFraudScore(topAnalysis.getFraudScore());
+            aggregate.setConfidence((int) Math.round((double) weightedConfidence / weights));
+            aggregate.setRemarks(topAnalysis.getRemarks());
+            aggregate.setDetails(topAnalysis.getDetails());
+            if (documents.size() > 1) {
+                aggregate.setRemarks(String.format("%d of %d images flagged; highest score %d on %s. %s", flagged,
+                        documents.size() - failed, topAnalysis.getFraudScore(), documents.get(top).getDocumentName(),
+                        topAnalysis.getRemarks()));
+            }
+            boolean incomplete = failed > 0;
+            if (incomplete) {
+                aggregate.setRemarks(String.format("%d of %d images could not be analysed; manual review "
+                        + "recommended. %s", failed, documents.size(), aggregate.getRemarks()));
             }
 
-            FraudResult saved = fraudResultRepository.save(fraudResult);
+            return transactionTemplate.execute(tx -> {
+                FraudResult saved = saveFraudResult(claim, aggregate, incomplete);
+                fraudImageResultRepository.deleteByClaimId(claim.getId());
+                fraudImageResultRepository.saveAll(imageResults);
+                return saved;
+            });
+        } catch (Exception e) {
+            logger.error("Error saving fraud result: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save fraud result", e);
+        }
+    }
+
+    private FraudImageResult toImageResult(Claim claim, ClaimDocument document, FraudAnalysisDTO analysis)
+            throws JsonProcessingException {
+        FraudImageResult imageResult = new FraudImageResult();
+        imageResult.setClaim(claim);
+        imageResult.setDocument(document);
+        imageResult.setDocumentName(document.getDocumentName());
+        imageResult.setImageStatus(FraudResult.ImageStatus.valueOf(analysis.getImageStatus()));
+        imageResult.setFraudScore(analysis.getFraudScore());
+        imageResult.setConfidence(analysis.getConfidence());
+        imageResult.setRemarks(analysis.getRemarks());
+        imageResult.setDetails(toDetailsJson(analysis));
+        return imageResult;
+    }
+
+    /**
+     * Per-image breakdown of a claim's fraud result
+     */
+    public List<FraudImageResult> getImageResultsByClaim(Long claimId) {
+        return fraudImageResultRepository.findByClaimId(claimId);
+    }
+
+    /**
+     * Save fraud analysis result to database, replacing any earlier result
+     * of the claim. The row is written by a single MERGE on claim_id, so a
+     * re-analysis updates it in place instead of colliding with the unique
+     * claim_id.
+     */
+    public FraudResult saveFraudResult(Claim claim, FraudAnalysisDTO analysis) {
+        return saveFraudResult(claim, analysis, false);
+    }
+
+    private FraudResult saveFraudResult(Claim claim, FraudAnalysisDTO analysis, boolean incomplete) {
+        try {
+            FraudResult.ImageStatus imageStatus = FraudResult.ImageStatus.valueOf(analysis.getImageStatus());
+            String details = toDetailsJson(analysis);
+
+            String claimType = claim.getClaimType() != null ? claim.getClaimType().getName() : null;
+
+            FraudResult saved = transactionTemplate.execute(tx -> {
+                // The replaced result leaves the score distribution
+                List<Object[]> previous = fraudResultRepository.findStatusAndScoreByClaimId(claim.getId());
+                fraudResultRepository.upsert(claim.getId(), imageStatus.name(), analysis.getFraudScore(),
+                        analysis.getConfidence(), analysis.getRemarks(), details, LocalDateTime.now(), incomplete);
+                fraudStatisticsService.recordChange();
+                fraudScoreDistributionService.recordSaved(claimType,
+                        previous.isEmpty() ? null : (FraudResult.ImageStatus) previous.get(0)[0],
+                        previous.isEmpty() ? null : (Integer) previous.get(0)[1],
+                        imageStatus, analysis.getFraudScore());
+                return fraudResultRepository.findByClaimId(claim.getId()).orElseThrow();
+            });
             logger.info("Saved fraud result for claim ID: {}", claim.getId());
 
             return saved;
@@ -114,29 +315,22 @@ public class FraudService {
     }
 
     /**
-     * Check if AI service is available
+     * Check if AI service is available, as last seen by the background health
+     * probe; never blocks on the network
      */
     public boolean isAiServiceAvailable() {
-        try {
-            String healthUrl = aiServiceUrl + "/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(healthUrl, String.class);
-            return response.getStatusCode() == HttpStatus.OK;
-        } catch (Exception e) {
-            logger.warn("AI service health check failed: {}", e.getMessage());
-            return false;
-        }
+        return aiServiceClient.isServiceAvailable();
     }
 
     /**
-     * Get fraud statistics
+     * Get fraud statistics, from the in-memory snapshot
      */
     public FraudStatistics getFraudStatistics() {
-        FraudStatistics stats = new FraudStatistics();
-        stats.setTotalAnalyzed(fraudResultRepository.count());
-        stats.setSuspiciousCount(fraudResultRepository.countSuspicious());
-        stats.setFraudCount(fraudResultRepository.countFraud());
-        stats.setGenuineCount(stats.getTotalAnalyzed() - stats.getSuspiciousCount() - stats.getFraudCount());
-        return stats;
+        return fraudStatisticsService.getSnapshot();
+    }
+
+    private String toDetailsJson(FraudAnalysisDTO analysis) throws JsonProcessingException {
+        return analysis.getDetails() != null ? objectMapper.writeValueAsString(analysis.getDetails()) : null;
     }
 
     /**
@@ -151,12 +345,16 @@ public class FraudService {
         return analysis;
     }
 
-    // Inner class for fraud statistics
+    // Inner class for fraud statistics; window and claim type entries leave out what does not apply
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class FraudStatistics {
         private long totalAnalyzed;
         private long genuineCount;
         private long suspiciousCount;
         private long fraudCount;
+        private Map<String, FraudStatistics> windows; // "24h", "7d", "30d"
+        private Map<String, FraudStatistics> byClaimType;
+        private LocalDateTime generatedAt;
 
         // Getters and Setters
         public long getTotalAnalyzed() {
@@ -190,5 +388,29 @@ public class FraudService {
         public void setFraudCount(long fraudCount) {
             this.fraudCount = fraudCount;
         }
+
+        public Map<String, FraudStatistics> getWindows() {
+            return windows;
+        }
+
+        public void setWindows(Map<String, FraudStatistics> windows) {
+            this.windows = windows;
+        }
+
+        public Map<String, FraudStatistics> getByClaimType() {
+            return byClaimType;
+        }
+
+        public void setByClaimType(Map<String, FraudStatistics> byClaimType) {
+            this.byClaimType = byClaimType;
+        }
+
+        public LocalDateTime getGeneratedAt() {
+            return generatedAt;
+        }
+
+        public void setGeneratedAt(LocalDateTime generatedAt) {
+            this.generatedAt = generatedAt;
+        }
     }
 }
@@ -0,0 +1,127 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.repository.FraudResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory snapshot of the fraud dashboard statistics.
+ *
+ * The snapshot comes from a single GROUP BY over fraud results by image
+ * status and claim type, counting all-time and within the last 24 hours,
+ * 7 days and 30 days. It is rebuilt in the background: on the next refresh
+ * tick after a fraud result is written or deleted, and at least every
+ * ai.fraud.statistics.max-age so the time windows keep sliding. However
+ * often results change, the query runs at most once per tick; reads are
+ * served from memory.
+ */
+@Service
+public class FraudStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FraudStatisticsService.class);
+    private static final String UNKNOWN_CLAIM_TYPE = "Unknown";
+
+    @Autowired
+    private FraudResultRepository fraudResultRepository;
+
+    @Value("${ai.fraud.statistics.max-age:60000}")
+    private long maxAgeMillis;
+
+    private final AtomicBoolean changed = new AtomicBoolean(true);
+    private volatile FraudService.FraudStatistics snapshot = emptyStatistics(LocalDateTime.now());
+    private volatile long refreshedAtMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        // Cleared first, so a write committed while the query runs triggers the next refresh
+        changed.set(false);
+        LocalDateTime now = LocalDateTime.now();
+        FraudService.FraudStatistics stats = emptyStatistics(now);
+        Map<String, FraudService.FraudStatistics> byClaimType = new HashMap<>();
+
+        for (Object[] row : fraudResultRepository.countByStatusAndClaimType(
+                now.minusHours(24), now.minusDays(7), now.minusDays(30))) {
+            FraudResult.ImageStatus status = (FraudResult.ImageStatus) row[0];
+            String claimType = row[1] != null ? (String) row[1] : UNKNOWN_CLAIM_TYPE;
+            FraudService.FraudStatistics typeStats = byClaimType.computeIfAbsent(claimType,
+                    name -> emptyStatistics(null));
+            for (FraudService.FraudStatistics target : new FraudService.FraudStatistics[] { stats, typeStats }) {
+                add(target, status, count(row[2]));
+                add(target.getWindows().get("24h"), status, count(row[3]));
+                add(target.getWindows().get("7d"), status, count(row[4]));
+                add(target.getWindows().get("30d"), status, count(row[5]));
+            }
+        }
+        stats.setByClaimType(byClaimType);
+
+        snapshot = stats;
+        refreshedAtMillis = System.currentTimeMillis();
+        logger.debug("Fraud statistics refreshed: {} results", stats.getTotalAnalyzed());
+    }
+
+    @Scheduled(initialDelayString = "${ai.fraud.statistics.refresh-interval:5000}",
+            fixedDelayString = "${ai.fraud.statistics.refresh-interval:5000}")
+    public void refreshIfStale() {
+        if (changed.get() || System.currentTimeMillis() - refreshedAtMillis >= maxAgeMillis) {
+            try {
+                refresh();
+            } catch (Exception e) {
+                changed.set(true);
+                logger.warn("Could not refresh fraud statistics: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Note that fraud results changed, once the surrounding transaction commits
+     */
+    public void recordChange() {
+        TransactionHooks.afterCommit(() -> changed.set(true));
+    }
+
+    /**
+     * Latest snapshot; at most one refresh interval behind committed writes
+     */
+    public FraudService.FraudStatistics getSnapshot() {
+        return snapshot;
+    }
+
+    // Counters for all time and for each window; generatedAt is set on the top level only
+    private static FraudService.FraudStatistics emptyStatistics(LocalDateTime generatedAt) {
+        FraudService.FraudStatistics stats = new FraudService.FraudStatistics();
+        Map<String, FraudService.FraudStatistics> windows = new HashMap<>();
+        windows.put("24h", new FraudService.FraudStatistics());
+        windows.put("7d", new FraudService.FraudStatistics());
+        windows.put("30d", new FraudService.FraudStatistics());
+        stats.setWindows(windows);
+        stats.setGeneratedAt(generatedAt);
+        return stats;
+    }
+
+    private static void add(FraudService.FraudStatistics stats, FraudResult.ImageStatus status, long count) {
+        stats.setTotalAnalyzed(stats.getTotalAnalyzed() + count);
+        if (status == FraudResult.ImageStatus.FRAUD) {
+            stats.setFraudCount(stats.getFraudCount() + count);
+        } else if (status == FraudResult.ImageStatus.SUSPICIOUS) {
+            stats.setSuspiciousCount(stats.getSuspiciousCount() + count);
+        } else {
+            stats.setGenuineCount(stats.getGenuineCount() + count);
+        }
+    }
+
+    private static long count(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+}
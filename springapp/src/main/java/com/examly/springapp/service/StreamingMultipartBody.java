@@ -0,0 +1,78 @@
+package com.examly.springapp.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A multipart/form-data request body whose file parts are streamed from disk.
+ *
+ * Part headers and small form fields are held as strings; each file is
+ * published straight from its file channel by the JDK HttpClient, so sending
+ * a file costs a fixed-size read buffer rather than a copy of the file on the
+ * heap. The total length is known up front, so the request carries a
+ * Content-Length rather than chunked framing.
+ */
+public class StreamingMultipartBody {
+
+    private static final String CRLF = "\r\n";
+
+    private final String boundary = "----ai-" + UUID.randomUUID();
+    private final List<HttpRequest.BodyPublisher> parts = new ArrayList<>();
+
+    /**
+     * Add a file part; its content type is guessed from the file name
+     */
+    public StreamingMultipartBody addFile(String name, Path file) {
+        String filename = file.getFileName().toString();
+        MediaType contentType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        parts.add(HttpRequest.BodyPublishers.ofString(
+                "--" + boundary + CRLF
+                        + "Content-Disposition: form-data; name=\"" + quote(name) + "\"; filename=\""
+                        + quote(filename) + "\"" + CRLF
+                        + "Content-Type: " + contentType + CRLF + CRLF,
+                StandardCharsets.UTF_8));
+        try {
+            parts.add(HttpRequest.BodyPublishers.ofFile(file));
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+        parts.add(HttpRequest.BodyPublishers.ofString(CRLF));
+        return this;
+    }
+
+    public StreamingMultipartBody addField(String name, String value) {
+        parts.add(HttpRequest.BodyPublishers.ofString(
+                "--" + boundary + CRLF
+                        + "Content-Disposition: form-data; name=\"" + quote(name) + "\"" + CRLF + CRLF
+                        + value + CRLF,
+                StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * The whole body, closing boundary included
+     */
+    public HttpRequest.BodyPublisher toPublisher() {
+        List<HttpRequest.BodyPublisher> all = new ArrayList<>(parts);
+        all.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "--" + CRLF));
+        return HttpRequest.BodyPublishers.concat(all.toArray(new HttpRequest.BodyPublisher[0]));
+    }
+
+    // Header parameter values may not contain raw quotes or line breaks
+    private static String quote(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+}
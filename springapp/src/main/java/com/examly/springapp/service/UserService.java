@@ -12,10 +12,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ClaimStatsService claimStatsService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ClaimStatsService claimStatsService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.claimStatsService = claimStatsService;
     }
 
     // Normal login (no JWT)
@@ -61,7 +64,9 @@ public class UserService {
             user.setPolicyNumber(generatePolicyNumber());
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        claimStatsService.recordUserRegistered(userRole);
+        return saved;
     }
 
     private String generatePolicyNumber() {
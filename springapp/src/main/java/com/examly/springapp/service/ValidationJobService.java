@@ -0,0 +1,217 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ValidationJobDTO;
+import com.examly.springapp.repository.ClaimRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs evidence validation as background jobs so that request threads and
+ * database connections are not held while the AI service works.
+ *
+ * Jobs run on a fixed pool of validation.jobs.workers threads with at most
+ * validation.jobs.queue-capacity waiting; further submissions are rejected.
+ * A claim has at most one queued job: submitting again while it waits returns
+ * that job. A running job has already read the claim's documents, so a
+ * submission while it runs queues a follow-up job (at most one, shared by
+ * further submissions) that starts once the running one finishes. Job state
+ * is kept in memory; finished jobs are forgotten after
+ * validation.jobs.retention-minutes.
+ */
+@Service
+public class ValidationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationJobService.class);
+
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final EvidenceValidationService evidenceValidationService;
+    private final ClaimRepository claimRepository;
+    private final ThreadPoolExecutor workers;
+    private final Duration retention;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // claim id -> its queued or running job; transitions of that job happen inside compute() on its entry
+    private final Map<Long, Job> activeByClaim = new ConcurrentHashMap<>();
+
+    public ValidationJobService(EvidenceValidationService evidenceValidationService,
+            ClaimRepository claimRepository,
+            @Value("${validation.jobs.workers:4}") int workerCount,
+            @Value("${validation.jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${validation.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.evidenceValidationService = evidenceValidationService;
+        this.claimRepository = claimRepository;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "validation-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queue a validation of the claim's evidence. Returns the claim's job that
+     * is still queued, if any, since it will see every document uploaded so
+     * far; otherwise a new job, which waits for a running one to finish.
+     *
+     * @throws NoSuchElementException     if the claim does not exist
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public ValidationJobDTO submit(Long claimId) {
+        if (!claimRepository.existsById(claimId)) {
+            throw new NoSuchElementException("Claim not found");
+        }
+        pruneFinishedJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), claimId);
+        Job[] result = new Job[1];
+        boolean[] created = new boolean[1];
+        activeByClaim.compute(claimId, (id, active) -> {
+            if (active == null) {
+                created[0] = true;
+                result[0] = job;
+                return job;
+            }
+            if (active.status == JobStatus.QUEUED) {
+                result[0] = active;
+            } else {
+                // Running: run again afterwards so documents uploaded meanwhile are validated
+                if (active.followUp == null) {
+                    active.followUp = job;
+                    jobs.put(job.id, job);
+                    logger.info("Queued follow-up validation job {} for claim {} after running job {}",
+                            job.id, claimId, active.id);
+                }
+                result[0] = active.followUp;
+            }
+            return active;
+        });
+        if (!created[0]) {
+            return result[0].toDTO();
+        }
+
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            activeByClaim.remove(claimId, job);
+            throw new RejectedExecutionException("Validation queue is full, please retry later");
+        }
+        logger.info("Queued validation job {} for claim {}", job.id, claimId);
+        return job.toDTO();
+    }
+
+    public Optional<ValidationJobDTO> getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null ? Optional.of(job.toDTO()) : Optional.empty();
+    }
+
+    private void run(Job job) {
+        // Started under the claim's entry, so a concurrent submit either joins it as queued or follows it
+        activeByClaim.compute(job.claimId, (id, active) -> {
+            job.start();
+            return active;
+        });
+        try {
+            evidenceValidationService.validateClaimEvidence(job.claimId);
+            job.finish(JobStatus.SUCCEEDED, null);
+        } catch (Exception e) {
+            job.finish(JobStatus.FAILED, e.getMessage());
+        } finally {
+            Job[] next = new Job[1];
+            activeByClaim.compute(job.claimId, (id, active) -> {
+                if (active != job) {
+                    return active;
+                }
+                next[0] = job.followUp;
+                return job.followUp;
+            });
+            if (next[0] != null) {
+                startFollowUp(next[0]);
+            }
+        }
+        logger.info("Validation job {} for claim {} {}", job.id, job.claimId, job.status);
+    }
+
+    private void startFollowUp(Job followUp) {
+        try {
+            workers.execute(() -> run(followUp));
+        } catch (RejectedExecutionException e) {
+            followUp.finish(JobStatus.FAILED, "Validation queue is full, please retry later");
+            activeByClaim.remove(followUp.claimId, followUp);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static class Job {
+        private final String id;
+        private final Long claimId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private Job followUp; // set and read inside compute() on the claim's entry
+
+        Job(String id, Long claimId) {
+            this.id = id;
+            this.claimId = claimId;
+        }
+
+        synchronized void start() {
+            startedAt = LocalDateTime.now();
+            status = JobStatus.RUNNING;
+        }
+
+        synchronized void finish(JobStatus outcome, String failure) {
+            error = failure;
+            finishedAt = LocalDateTime.now();
+            status = outcome;
+        }
+
+        synchronized ValidationJobDTO toDTO() {
+            ValidationJobDTO dto = new ValidationJobDTO();
+            dto.setId(id);
+            dto.setClaimId(claimId);
+            dto.setStatus(status.name());
+            dto.setSubmittedAt(submittedAt);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setError(error);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimType;
+import com.examly.springapp.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class ClaimSpecificationsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    // The application's seeding runners need an encoder; the security configuration is not in the slice
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    private User customer;
+    private ClaimType type;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setName("Customer");
+        customer.setEmail("customer@example.com");
+        customer.setPassword("secret");
+        customer.setRole(User.UserRole.CUSTOMER);
+        entityManager.persist(customer);
+        type = entityManager.persist(new ClaimType("Test Insurance"));
+
+        // Three submission dates shared by several claims, so page boundaries fall inside ties
+        int[] dayOffsets = { 2, 0, 1, 2, 0, 2, 1, 0, 2, 1 };
+        for (int offset : dayOffsets) {
+            Claim claim = new Claim();
+            claim.setCustomer(customer);
+            claim.setClaimType(type);
+            claim.setAmount(100.0);
+            claim.setSubmissionDate(BASE.plusDays(offset));
+            entityManager.persist(claim);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void seekBySubmissionDateDescendingVisitsEveryClaimOnceInOrder() {
+        assertSeekMatchesFullOrder("submissionDate", Sort.Direction.DESC);
+    }
+
+    @Test
+    void seekBySubmissionDateAscendingVisitsEveryClaimOnceInOrder() {
+        assertSeekMatchesFullOrder("submissionDate", Sort.Direction.ASC);
+    }
+
+    @Test
+    void seekByIdVisitsEveryClaimOnceInOrder() {
+        assertSeekMatchesFullOrder("id", Sort.Direction.DESC);
+    }
+
+    @Test
+    void filtersCombineInTheDatabase() {
+        ClaimType other = entityManager.persist(new ClaimType("Other Insurance"));
+        Long match = persistClaim(type, Claim.ClaimStatus.APPROVED, 250.0);
+        persistClaim(type, Claim.ClaimStatus.APPROVED, 50.0);
+        persistClaim(type, Claim.ClaimStatus.REJECTED, 250.0);
+        persistClaim(other, Claim.ClaimStatus.APPROVED, 250.0);
+
+        Specification<Claim> spec = Specification.where(ClaimSpecifications.hasStatus(Claim.ClaimStatus.APPROVED))
+                .and(ClaimSpecifications.hasClaimTypeName("test insurance"))
+                .and(ClaimSpecifications.amountAtLeast(200.0))
+                .and(ClaimSpecifications.amountAtMost(300.0));
+
+        Page<ClaimSummaryDTO> page = claimRepository.findSummaries(spec, PageRequest.of(0, 10, Sort.by("id")));
+        assertEquals(List.of(match), page.getContent().stream().map(ClaimSummaryDTO::getId).toList());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    void nullFiltersMatchEverything() {
+        Specification<Claim> spec = Specification.where(ClaimSpecifications.hasStatus(null))
+                .and(ClaimSpecifications.hasClaimTypeName(null))
+                .and(ClaimSpecifications.amountAtLeast(null))
+                .and(ClaimSpecifications.amountAtMost(null));
+
+        assertEquals(10, claimRepository.findSummaries(spec, PageRequest.of(0, 100)).getTotalElements());
+    }
+
+    @Test
+    void offsetPagesReadOnlyThePageAndCountTheRest() {
+        Specification<Claim> all = Specification.where(null);
+        Sort sort = Sort.by(Sort.Direction.DESC, "submissionDate").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<Long> expected = claimRepository.findSummaries(all, sort, 100).stream()
+                .map(ClaimSummaryDTO::getId).toList();
+
+        Page<ClaimSummaryDTO> second = claimRepository.findSummaries(all, PageRequest.of(1, 4, sort));
+        Page<ClaimSummaryDTO> last = claimRepository.findSummaries(all, PageRequest.of(2, 4, sort));
+
+        assertEquals(expected.subList(4, 8), second.getContent().stream().map(ClaimSummaryDTO::getId).toList());
+        assertEquals(expected.subList(8, 10), last.getContent().stream().map(ClaimSummaryDTO::getId).toList());
+        assertEquals(10, second.getTotalElements());
+        assertEquals(3, second.getTotalPages());
+    }
+
+    @Test
+    void bulkStatusUpdateWithoutResponseKeepsStoredResponses() {
+        Long answered = persistClaim(type, Claim.ClaimStatus.IN_REVIEW, 100.0);
+        entityManager.find(Claim.class, answered).setAgentResponse("Waiting for photos");
+        entityManager.flush();
+
+        claimRepository.bulkUpdateStatusWithResponse(List.of(answered), Claim.ClaimStatus.APPROVED, null);
+        entityManager.clear();
+
+        Claim claim = entityManager.find(Claim.class, answered);
+        assertEquals(Claim.ClaimStatus.APPROVED, claim.getStatus());
+        assertEquals("Waiting for photos", claim.getAgentResponse());
+    }
+
+    private Long persistClaim(ClaimType claimType, Claim.ClaimStatus status, Double amount) {
+        Claim claim = new Claim();
+        claim.setCustomer(customer);
+        claim.setClaimType(claimType);
+        claim.setStatus(status);
+        claim.setAmount(amount);
+        entityManager.persist(claim);
+        entityManager.flush();
+        return claim.getId();
+    }
+
+    private void assertSeekMatchesFullOrder(String sortBy, Sort.Direction direction) {
+        Sort sort = sortBy.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        Specification<Claim> all = Specification.where(null);
+        List<Long> expected = claimRepository.findSummaries(all, sort, 100).stream()
+                .map(ClaimSummaryDTO::getId).toList();
+
+        List<Long> seen = new ArrayList<>();
+        List<ClaimSummaryDTO> page = claimRepository.findSummaries(all, sort, 3);
+        while (!page.isEmpty()) {
+            page.forEach(row -> seen.add(row.getId()));
+            ClaimSummaryDTO last = page.get(page.size() - 1);
+            page = claimRepository.findSummaries(
+                    all.and(ClaimSpecifications.seekAfter(sortBy, direction, last.getSubmissionDate(), last.getId())),
+                    sort, 3);
+        }
+
+        assertEquals(10, expected.size());
+        assertEquals(expected, seen);
+    }
+}
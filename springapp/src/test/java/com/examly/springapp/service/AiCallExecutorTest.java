@@ -0,0 +1,114 @@
+package com.examly.springapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiCallExecutorTest {
+
+    private final AiCallExecutor executor = new AiCallExecutor(3, 2, 3);
+    private final ExecutorService callers = Executors.newFixedThreadPool(6);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void resultsComeBackInInputOrder() {
+        List<Integer> results = executor.mapConcurrently(List.of(5, 1, 4, 2, 3), item -> {
+            sleep(item * 5L);
+            return item * 10;
+        });
+
+        assertEquals(List.of(50, 10, 40, 20, 30), results);
+    }
+
+    @Test
+    void callsNeverRunOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+
+        List<Thread> single = executor.mapConcurrently(List.of(1), item -> Thread.currentThread());
+        List<Thread> sequential = executor.mapConcurrently(List.of(1, 2, 3), 1, item -> Thread.currentThread());
+
+        assertNotEquals(caller, single.get(0));
+        sequential.forEach(thread -> assertNotEquals(caller, thread));
+    }
+
+    @Test
+    void globalCapHoldsAcrossConcurrentCallers() throws Exception {
+        List<CompletableFuture<List<Integer>>> invocations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            invocations.add(CompletableFuture.supplyAsync(
+                    () -> executor.mapConcurrently(List.of(1, 2, 3, 4), 4, this::trackedCall), callers));
+        }
+        for (CompletableFuture<List<Integer>> invocation : invocations) {
+            assertEquals(List.of(1, 2, 3, 4), invocation.get(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    void perInvocationCapHolds() {
+        executor.mapConcurrently(List.of(1, 2, 3, 4, 5, 6), this::trackedCall);
+
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void escapedExceptionIsRethrownAfterAllCallsFinish() {
+        AtomicInteger finished = new AtomicInteger();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> executor.mapConcurrently(List.of(1, 2, 3), item -> {
+                    sleep(20);
+                    finished.incrementAndGet();
+                    if (item == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return item;
+                }));
+
+        assertEquals("boom", e.getMessage());
+        assertEquals(3, finished.get());
+    }
+
+    @Test
+    void globalCapMustFitWithinTheBulkhead() {
+        assertThrows(IllegalArgumentException.class, () -> new AiCallExecutor(21, 4, 20));
+    }
+
+    private Integer trackedCall(Integer item) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            sleep(20);
+            return item;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
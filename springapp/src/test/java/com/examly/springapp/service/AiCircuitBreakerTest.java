@@ -0,0 +1,115 @@
+package com.examly.springapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiCircuitBreakerTest {
+
+    private static final long SLOW = 1000;
+
+    // window 10, minimum 4 calls, 50% failures or 80% slow calls open the breaker, 2 half-open trials
+    private static AiCircuitBreaker breaker(long openDurationMillis) {
+        return new AiCircuitBreaker(10, 4, 50, 80, SLOW, openDurationMillis, 2);
+    }
+
+    @Test
+    void staysClosedUntilMinimumCallsAreRecorded() {
+        AiCircuitBreaker breaker = breaker(60_000);
+        for (int i = 0; i < 3; i++) {
+            breaker.onResult(true, 10);
+        }
+        assertEquals(AiCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(true, 10);
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void opensAtFailureRateThresholdAndRejectsWhileOpen() {
+        AiCircuitBreaker breaker = breaker(60_000);
+        breaker.onResult(false, 10);
+        breaker.onResult(true, 10);
+        breaker.onResult(false, 10);
+        assertEquals(AiCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(true, 10);
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(2L, breaker.getSnapshot().get("rejectedCalls"));
+    }
+
+    @Test
+    void opensAtSlowCallRateThreshold() {
+        AiCircuitBreaker breaker = breaker(60_000);
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(false, SLOW);
+        }
+
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfTheWindow() {
+        // window 4: after F S S S S the early failure is gone, and F F then make 2 of 4
+        AiCircuitBreaker breaker = new AiCircuitBreaker(4, 4, 50, 80, SLOW, 60_000, 2);
+        boolean[] outcomes = { true, false, false, false, false, true };
+        for (boolean failed : outcomes) {
+            breaker.onResult(failed, 10);
+        }
+        assertEquals(AiCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 3 failures in 7 calls would stay below 50% without the sliding window
+        breaker.onResult(true, 10);
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenTrialsThatSucceedCloseTheBreaker() {
+        AiCircuitBreaker breaker = tripped(breaker(0));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        // Only half-open-calls trials are let through
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onResult(false, 10);
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onResult(false, 10);
+        assertEquals(AiCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void halfOpenTrialsThatFailReopenTheBreaker() {
+        AiCircuitBreaker breaker = tripped(breaker(0));
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onResult(true, 10);
+        breaker.onResult(false, 10);
+
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void resultsArrivingWhileOpenAreIgnored() {
+        AiCircuitBreaker breaker = tripped(breaker(60_000));
+        breaker.onResult(false, 10);
+
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(0, breaker.getSnapshot().get("bufferedCalls"));
+    }
+
+    private static AiCircuitBreaker tripped(AiCircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(true, 10);
+        }
+        assertEquals(AiCircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,130 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.repository.AiResultCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+class AiResultCacheTest {
+
+    // The application's seeding runners need an encoder; the security configuration is not in the slice
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+    }
+
+    @Autowired
+    private AiResultCacheRepository cacheRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger calls = new AtomicInteger();
+    private AiResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AiResultCache(cacheRepository, objectMapper, "1", 10);
+    }
+
+    @Test
+    void secondLookupOfTheSamePayloadIsAHit() {
+        Map<?, ?> first = cache.getOrCompute(Map.of("text", "hello"), "/relevance", Map.class, this::call);
+        Map<?, ?> second = cache.getOrCompute(Map.of("text", "hello"), "/relevance", Map.class, this::call);
+
+        assertEquals(1, calls.get());
+        assertEquals(first, second);
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+        assertEquals(1L, metrics.get("entries"));
+    }
+
+    @Test
+    void keyCoversContentEndpointParametersAndModelVersion() throws Exception {
+        Path file = Files.write(tempDir.resolve("photo.jpg"), new byte[] { 1, 2, 3 });
+        Path sameBytes = Files.write(tempDir.resolve("copy.jpg"), new byte[] { 1, 2, 3 });
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("a", "1");
+        params.put("b", "2");
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("b", "2");
+        reordered.put("a", "1");
+
+        cache.getOrCompute(file, "/extract-ocr", params, Map.class, this::call);
+        cache.getOrCompute(sameBytes, "/extract-ocr", reordered, Map.class, this::call);
+        assertEquals(1, calls.get());
+
+        cache.getOrCompute(file, "/classify-document", params, Map.class, this::call);
+        cache.getOrCompute(file, "/extract-ocr", Map.of("a", "1"), Map.class, this::call);
+        new AiResultCache(cacheRepository, objectMapper, "2", 10)
+                .getOrCompute(file, "/extract-ocr", params, Map.class, this::call);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void nullResultsAndFailuresAreNotCached() {
+        cache.getOrCompute(Map.of("k", 1), "/relevance", Map.class, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertThrows(IllegalStateException.class, () -> cache.getOrCompute(Map.of("k", 1), "/relevance",
+                Map.class, () -> {
+                    throw new IllegalStateException("AI service down");
+                }));
+        cache.getOrCompute(Map.of("k", 1), "/relevance", Map.class, this::call);
+
+        assertEquals(2, calls.get());
+        assertEquals(1L, cache.getMetrics().get("entries"));
+    }
+
+    @Test
+    void overflowEvictsTheLeastRecentlyUsedEntries() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            cache.put("sha-" + i, "/extract-ocr", Map.of(), Map.of("n", i));
+            Thread.sleep(2);
+        }
+        // Reading sha-0 makes sha-1 and sha-2 the least recently used
+        assertNotNull(cache.getIfPresent("sha-0", "/extract-ocr", Map.of(), Map.class));
+        Thread.sleep(2);
+
+        // The 11th entry trims the table back to 90% of capacity
+        cache.put("sha-10", "/extract-ocr", Map.of(), Map.of("n", 10));
+
+        assertEquals(9, cacheRepository.count());
+        assertEquals(2L, cache.getMetrics().get("evictions"));
+        assertEquals(9L, cache.getMetrics().get("entries"));
+        assertNotNull(cache.getIfPresent("sha-0", "/extract-ocr", Map.of(), Map.class));
+        assertNull(cache.getIfPresent("sha-1", "/extract-ocr", Map.of(), Map.class));
+        assertNull(cache.getIfPresent("sha-2", "/extract-ocr", Map.of(), Map.class));
+        assertNotNull(cache.getIfPresent("sha-3", "/extract-ocr", Map.of(), Map.class));
+        assertNotNull(cache.getIfPresent("sha-10", "/extract-ocr", Map.of(), Map.class));
+    }
+
+    private Map<String, Object> call() {
+        return Map.of("call", calls.incrementAndGet());
+    }
+}
@@ -0,0 +1,52 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.repository.ClaimRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClaimExportServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ClaimExportService exportService = new ClaimExportService(claimRepository, new ObjectMapper());
+
+    @Test
+    void csvQuotesDelimitersAndNeutralisesFormulas() throws Exception {
+        when(claimRepository.streamAllSummaries()).thenReturn(Stream.of(
+                summary(1L, "POL-1", -5.0, "Plain, \"quoted\" name", "ok"),
+                summary(2L, "=HYPERLINK(\"http://x\")", 10.0, "+cmd", "@SUM(A1)"),
+                summary(3L, "-2+3", 20.0, "\tTabbed", "\rreturn")));
+
+        String[] lines = export().split("\n");
+
+        assertEquals(4, lines.length);
+        assertEquals("1,POL-1,SUBMITTED,-5.0,Auto,\"Plain, \"\"quoted\"\" name\"," + DATE + ",ok", lines[1]);
+        assertEquals("2,\"'=HYPERLINK(\"\"http://x\"\")\",SUBMITTED,10.0,Auto,'+cmd," + DATE + ",'@SUM(A1)",
+                lines[2]);
+        assertEquals("3,'-2+3,SUBMITTED,20.0,Auto,'\tTabbed," + DATE + ",\"'\rreturn\"", lines[3]);
+    }
+
+    private String export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ClaimExportService.Format.CSV, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ClaimSummaryDTO summary(Long id, String policyNumber, Double amount, String customerName,
+            String agentResponse) {
+        return new ClaimSummaryDTO(id, policyNumber, Claim.ClaimStatus.SUBMITTED, amount, "Auto", customerName,
+                DATE, agentResponse);
+    }
+}
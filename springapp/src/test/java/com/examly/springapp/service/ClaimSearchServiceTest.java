@@ -0,0 +1,115 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.repository.ClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClaimSearchServiceTest {
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ClaimSearchService searchService = new ClaimSearchService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "claimRepository", claimRepository);
+        // The page is read back by id; returning every claim is fine since only page ids are picked
+        List<ClaimSummaryDTO> all = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            all.add(new ClaimSummaryDTO(id, null, Claim.ClaimStatus.SUBMITTED, 100.0, "Auto Insurance",
+                    "Customer", null, null));
+        }
+        when(claimRepository.findSummaries(any(), any(Sort.class), anyInt())).thenReturn(all);
+    }
+
+    @Test
+    void claimsMatchingMoreAndRarerTermsRankFirst() {
+        searchService.index(1L, "rear bumper dented in parking lot", null);
+        searchService.index(2L, "windshield cracked by hail", "hail damage confirmed");
+        searchService.index(3L, "bumper scratched", null);
+        searchService.index(4L, "parking lot hail storm", null);
+
+        assertEquals(List.of(2L, 4L), ids(searchService.search("hail", 0, 10)));
+        // "windshield" is rarer than "hail", and claim 2 matches both terms
+        assertEquals(List.of(2L, 4L), ids(searchService.search("hail windshield", 0, 10)));
+        assertEquals(List.of(3L, 1L), ids(searchService.search("bumper", 0, 10)));
+    }
+
+    @Test
+    void tiesGoToTheNewerClaim() {
+        searchService.index(5L, "flooded basement", null);
+        searchService.index(9L, "flooded basement", null);
+        searchService.index(7L, "flooded basement", null);
+
+        assertEquals(List.of(9L, 7L, 5L), ids(searchService.search("flooded", 0, 10)));
+    }
+
+    @Test
+    void pagesSliceTheFullRankingAndCountEveryMatch() {
+        for (long id = 1; id <= 12; id++) {
+            // Claim n mentions "water" n times, so higher ids score higher
+            searchService.index(id, "water ".repeat((int) id) + "filler text here", null);
+        }
+        searchService.index(13L, "unrelated theft", null);
+
+        Map<String, Object> first = searchService.search("water", 0, 5);
+        Map<String, Object> third = searchService.search("water", 2, 5);
+        Map<String, Object> beyond = searchService.search("water", 3, 5);
+
+        assertEquals(List.of(12L, 11L, 10L, 9L, 8L), ids(first));
+        assertEquals(List.of(2L, 1L), ids(third));
+        assertEquals(List.of(), ids(beyond));
+        assertEquals(12, first.get("totalItems"));
+        assertEquals(3, first.get("totalPages"));
+        assertEquals(12, beyond.get("totalItems"));
+    }
+
+    @Test
+    void reindexedAndRemovedClaimsAreReflected() {
+        searchService.index(1L, "stolen bicycle", null);
+        searchService.index(2L, "stolen laptop", null);
+        searchService.index(1L, "broken window", null);
+        searchService.remove(2L);
+
+        assertEquals(List.of(), ids(searchService.search("stolen", 0, 10)));
+        assertEquals(List.of(1L), ids(searchService.search("window", 0, 10)));
+        assertEquals(0, searchService.search("nothing", 0, 10).get("totalItems"));
+    }
+
+    @Test
+    void invalidPagingIsRejected() {
+        assertThrows(RuntimeException.class, () -> searchService.search("hail", -1, 10));
+        assertThrows(RuntimeException.class, () -> searchService.search("hail", 0, 0));
+    }
+
+    @Test
+    void pagesFarBeyondTheEndAreEmptyRatherThanOverflowing() {
+        searchService.index(1L, "hail damage", null);
+
+        // page * size would overflow an int
+        Map<String, Object> response = searchService.search("hail", 50_000, 50_000);
+
+        assertEquals(List.of(), ids(response));
+        assertEquals(1, response.get("totalItems"));
+        assertEquals(List.of(1L), ids(searchService.search("hail", 0, Integer.MAX_VALUE)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> ids(Map<String, Object> response) {
+        return ((List<ClaimSummaryDTO>) response.get("claims")).stream().map(ClaimSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.AuditLogRepository;
+import com.examly.springapp.repository.ClaimRepository;
+import com.examly.springapp.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClaimServiceBulkTest {
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ClaimSearchService claimSearchService = mock(ClaimSearchService.class);
+    private final ClaimService claimService = new ClaimService();
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("agent@example.com")).thenReturn(Optional.of(new User()));
+        ReflectionTestUtils.setField(claimService, "claimRepository", claimRepository);
+        ReflectionTestUtils.setField(claimService, "claimSearchService", claimSearchService);
+        ReflectionTestUtils.setField(claimService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(claimService, "auditLogRepository", mock(AuditLogRepository.class));
+        ReflectionTestUtils.setField(claimService, "claimStatsService", mock(ClaimStatsService.class));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("agent@example.com", null, List.of()));
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 1L, Claim.ClaimStatus.IN_REVIEW, "Rear bumper", "Waiting for photos" });
+        rows.add(new Object[] { 2L, Claim.ClaimStatus.IN_REVIEW, "Flooded kitchen", null });
+        when(claimRepository.findBulkStateByIdIn(any())).thenReturn(rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void nullResponseKeepsStoredResponsesAndTheSearchIndex() {
+        claimService.bulkUpdateStatusWithResponse(List.of(1L, 2L), Claim.ClaimStatus.APPROVED, null);
+
+        verify(claimRepository).bulkUpdateStatusWithResponse(List.of(1L, 2L), Claim.ClaimStatus.APPROVED, null);
+        verify(claimSearchService, never()).index(anyLong(), any(), any());
+    }
+
+    @Test
+    void onlyClaimsWhoseResponseChangesAreReindexed() {
+        claimService.bulkUpdateStatusWithResponse(List.of(1L, 2L), Claim.ClaimStatus.REJECTED, "Waiting for photos");
+
+        verify(claimSearchService, never()).index(anyLong(), anyString(), isNull());
+        verify(claimSearchService, never()).index(1L, "Rear bumper", "Waiting for photos");
+        verify(claimSearchService).index(2L, "Flooded kitchen", "Waiting for photos");
+    }
+}
@@ -0,0 +1,112 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ClaimSummaryDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.repository.ClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClaimServiceCursorTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 4, 5, 6, 7);
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ClaimService claimService = new ClaimService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(claimService, "claimRepository", claimRepository);
+    }
+
+    @Test
+    void fullPageCarriesCursorOfItsLastRow() {
+        when(claimRepository.findSummaries(any(), any(Sort.class), eq(3))).thenReturn(rows(9, 8, 7));
+
+        Map<String, Object> response = claimService.getClaimsByCursor(null, 2, "submissionDate", "desc",
+                null, null, null, null);
+
+        assertEquals(2, ((List<?>) response.get("claims")).size());
+        assertTrue((Boolean) response.get("hasNext"));
+        assertEquals("submissionDate|DESC|" + DATE + "|8", decode((String) response.get("nextCursor")));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(claimRepository.findSummaries(any(), any(Sort.class), eq(3))).thenReturn(rows(2, 1));
+
+        Map<String, Object> response = claimService.getClaimsByCursor(null, 2, "id", "asc",
+                null, null, null, null);
+
+        assertNull(response.get("nextCursor"));
+        assertFalse((Boolean) response.get("hasNext"));
+    }
+
+    @Test
+    void cursorIsAcceptedForTheOrderingItWasIssuedFor() {
+        when(claimRepository.findSummaries(any(), any(Sort.class), anyInt())).thenReturn(rows(9, 8, 7), rows(7));
+        String cursor = (String) claimService.getClaimsByCursor(null, 2, "submissionDate", "desc",
+                null, null, null, null).get("nextCursor");
+
+        Map<String, Object> next = claimService.getClaimsByCursor(cursor, 2, "submissionDate", "desc",
+                null, null, null, null);
+
+        assertEquals(1, ((List<?>) next.get("claims")).size());
+    }
+
+    @Test
+    void cursorIsRejectedForAnotherOrdering() {
+        String cursor = encode("submissionDate|DESC|" + DATE + "|8");
+
+        assertThrows(RuntimeException.class, () -> claimService.getClaimsByCursor(cursor, 2, "submissionDate",
+                "asc", null, null, null, null));
+        assertThrows(RuntimeException.class, () -> claimService.getClaimsByCursor(cursor, 2, "id",
+                "desc", null, null, null, null));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(RuntimeException.class, () -> claimService.getClaimsByCursor("not*base64", 2,
+                "submissionDate", "desc", null, null, null, null));
+        assertThrows(RuntimeException.class, () -> claimService.getClaimsByCursor(
+                encode("submissionDate|DESC|yesterday|8"), 2, "submissionDate", "desc", null, null, null, null));
+        assertThrows(RuntimeException.class, () -> claimService.getClaimsByCursor(
+                encode("submissionDate|DESC|" + DATE), 2, "submissionDate", "desc", null, null, null, null));
+    }
+
+    private static List<ClaimSummaryDTO> rows(long... ids) {
+        List<ClaimSummaryDTO> rows = new ArrayList<>();
+        for (long id : ids) {
+            rows.add(new ClaimSummaryDTO(id, null, Claim.ClaimStatus.SUBMITTED, 100.0, "Auto Insurance",
+                    "Customer", DATE, null));
+        }
+        return rows;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimType;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.ClaimRepository;
+import com.examly.springapp.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClaimStatsServiceTest {
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ClaimStatsService statsService = new ClaimStatsService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(statsService, "claimRepository", claimRepository);
+        ReflectionTestUtils.setField(statsService, "userRepository", userRepository);
+        when(claimRepository.countAndSumByStatus()).thenReturn(rows(
+                new Object[] { Claim.ClaimStatus.SUBMITTED, 3L, 300.0 },
+                new Object[] { Claim.ClaimStatus.APPROVED, 1L, 50.0 }));
+        when(claimRepository.countByClaimTypeName()).thenReturn(rows(
+                new Object[] { "Auto Insurance", 4L }));
+        when(userRepository.countByRole()).thenReturn(rows(
+                new Object[] { User.UserRole.CUSTOMER, 3L },
+                new Object[] { User.UserRole.ADMIN, 1L }));
+        when(claimRepository.findSummaries(any(), any(Sort.class), anyInt())).thenReturn(new ArrayList<>());
+        statsService.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reloadSeedsCountersFromTheDatabase() {
+        Map<String, Object> stats = statsService.getSnapshot();
+
+        assertEquals(4L, stats.get("totalClaims"));
+        assertEquals(350.0, stats.get("totalAmount"));
+        assertEquals(Map.of("SUBMITTED", 3L, "APPROVED", 1L), stats.get("byStatus"));
+        assertEquals(Map.of("Auto Insurance", 4L), stats.get("byType"));
+        assertEquals(4L, stats.get("totalUsers"));
+        assertEquals(3L, stats.get("totalCustomers"));
+    }
+
+    @Test
+    void createStatusChangeAndDeleteAdjustTheCounters() {
+        Claim claim = claim(10L, "Home Insurance", 120.0);
+        statsService.recordClaimCreated(claim);
+        statsService.recordStatusChanged(10L, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.IN_REVIEW);
+        statsService.recordStatusChanged(1L, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.REJECTED);
+
+        Map<String, Object> stats = statsService.getSnapshot();
+        assertEquals(5L, stats.get("totalClaims"));
+        assertEquals(470.0, stats.get("totalAmount"));
+        assertEquals(Map.of("SUBMITTED", 2L, "IN_REVIEW", 1L, "APPROVED", 1L, "REJECTED", 1L), stats.get("byStatus"));
+        assertEquals(Map.of("Auto Insurance", 4L, "Home Insurance", 1L), stats.get("byType"));
+        assertEquals("IN_REVIEW", recentClaims(stats).get(0).get("status"));
+
+        claim.setStatus(Claim.ClaimStatus.IN_REVIEW);
+        statsService.recordClaimDeleted(claim);
+
+        stats = statsService.getSnapshot();
+        assertEquals(4L, stats.get("totalClaims"));
+        assertEquals(350.0, stats.get("totalAmount"));
+        assertEquals(Map.of("SUBMITTED", 2L, "APPROVED", 1L, "REJECTED", 1L), stats.get("byStatus"));
+        assertEquals(Map.of("Auto Insurance", 4L), stats.get("byType"));
+        assertEquals(List.of(), recentClaims(stats));
+    }
+
+    @Test
+    void unchangedStatusIsNotCounted() {
+        statsService.recordStatusChanged(1L, Claim.ClaimStatus.APPROVED, Claim.ClaimStatus.APPROVED);
+
+        assertEquals(Map.of("SUBMITTED", 3L, "APPROVED", 1L), statsService.getSnapshot().get("byStatus"));
+    }
+
+    @Test
+    void deltasAreAppliedOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        statsService.recordStatusChanged(1L, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.APPROVED);
+        statsService.recordUserRegistered(User.UserRole.AGENT);
+
+        // Nothing is applied while the transaction is open, or if it never commits
+        assertEquals(Map.of("SUBMITTED", 3L, "APPROVED", 1L), statsService.getSnapshot().get("byStatus"));
+        List<TransactionSynchronization> pending = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        pending.forEach(TransactionSynchronization::afterCommit);
+        Map<String, Object> stats = statsService.getSnapshot();
+        assertEquals(Map.of("SUBMITTED", 2L, "APPROVED", 2L), stats.get("byStatus"));
+        assertEquals(1L, stats.get("totalAgents"));
+    }
+
+    private static Claim claim(Long id, String type, Double amount) {
+        Claim claim = new Claim();
+        claim.setId(id);
+        claim.setClaimType(new ClaimType(type));
+        claim.setAmount(amount);
+        return claim;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> recentClaims(Map<String, Object> stats) {
+        return (List<Map<String, Object>>) stats.get("recentClaims");
+    }
+}
@@ -0,0 +1,98 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.ClaimType;
+import com.examly.springapp.model.DocumentRequirement;
+import com.examly.springapp.repository.DocumentRequirementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DocumentRequirementIndexTest {
+
+    private static final long AUTO = 1L;
+    private static final long HEALTH = 2L;
+    private static final long TRAVEL = 3L;
+
+    private final DocumentRequirementRepository documentRequirementRepository =
+            mock(DocumentRequirementRepository.class);
+    private final DocumentRequirementIndex index = new DocumentRequirementIndex();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "documentRequirementRepository", documentRequirementRepository);
+        ClaimType auto = claimType(AUTO);
+        ClaimType health = claimType(HEALTH);
+        when(documentRequirementRepository.findAllWithClaimType()).thenReturn(List.of(
+                new DocumentRequirement(auto, "POLICE_REPORT", "Police report", true, null),
+                new DocumentRequirement(auto, "REPAIR_ESTIMATE", "Repair estimate", true, null),
+                new DocumentRequirement(auto, "VEHICLE_PHOTO", "Vehicle photo", false, null),
+                new DocumentRequirement(auto, "DRIVING_LICENSE", "Driving license", true, null),
+                new DocumentRequirement(health, "MEDICAL_BILL", "Medical bill", true, null),
+                new DocumentRequirement(health, "VEHICLE_PHOTO", "Photo", false, null)));
+        index.rebuild();
+    }
+
+    @Test
+    void allMandatoryCategoriesProvidedIsComplete() {
+        DocumentRequirementIndex.Completeness completeness = index.check(AUTO,
+                List.of("DRIVING_LICENSE", "POLICE_REPORT", "REPAIR_ESTIMATE", "REPAIR_ESTIMATE"));
+
+        assertEquals(3, completeness.getRequiredCount());
+        assertEquals(List.of(), completeness.getMissingDocuments());
+        assertEquals(100, completeness.getScore());
+    }
+
+    @Test
+    void missingDocumentsAreListedInDefinitionOrder() {
+        DocumentRequirementIndex.Completeness completeness = index.check(AUTO, List.of("REPAIR_ESTIMATE"));
+
+        assertEquals(List.of("Police report", "Driving license"), completeness.getMissingDocuments());
+        assertEquals(33, completeness.getScore());
+    }
+
+    @Test
+    void optionalAndUnknownCategoriesCountForNothing() {
+        DocumentRequirementIndex.Completeness completeness = index.check(AUTO,
+                List.of("VEHICLE_PHOTO", "UNKNOWN", "MEDICAL_BILL"));
+
+        assertEquals(List.of("Police report", "Repair estimate", "Driving license"),
+                completeness.getMissingDocuments());
+        assertEquals(0, completeness.getScore());
+    }
+
+    @Test
+    void requirementsAreKeptPerClaimType() {
+        assertEquals(List.of(), index.check(HEALTH, List.of("MEDICAL_BILL")).getMissingDocuments());
+        assertEquals(List.of("Medical bill"), index.check(HEALTH, List.of("POLICE_REPORT")).getMissingDocuments());
+    }
+
+    @Test
+    void claimTypeWithoutMandatoryRequirementsIsComplete() {
+        DocumentRequirementIndex.Completeness completeness = index.check(TRAVEL, List.of());
+
+        assertEquals(0, completeness.getRequiredCount());
+        assertEquals(100, completeness.getScore());
+    }
+
+    @Test
+    void rebuildPicksUpChangedRequirements() {
+        when(documentRequirementRepository.findAllWithClaimType()).thenReturn(List.of(
+                new DocumentRequirement(claimType(TRAVEL), "TICKET", "Ticket", true, null)));
+        index.rebuild();
+
+        assertEquals(List.of("Ticket"), index.check(TRAVEL, List.of()).getMissingDocuments());
+        assertEquals(0, index.check(AUTO, List.of()).getRequiredCount());
+    }
+
+    private static ClaimType claimType(Long id) {
+        ClaimType claimType = new ClaimType("Type " + id);
+        claimType.setId(id);
+        return claimType;
+    }
+}
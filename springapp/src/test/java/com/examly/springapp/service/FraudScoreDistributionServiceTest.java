@@ -0,0 +1,117 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.repository.FraudResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FraudScoreDistributionServiceTest {
+
+    private final FraudResultRepository fraudResultRepository = mock(FraudResultRepository.class);
+    private final FraudScoreDistributionService distributionService = new FraudScoreDistributionService();
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(distributionService, "fraudResultRepository", fraudResultRepository);
+        when(fraudResultRepository.countByClaimTypeStatusAndScore()).thenReturn(rows);
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        // One result at each score 1-100: the p-th percentile is score p
+        for (int score = 1; score <= 100; score++) {
+            rows.add(row("Auto Insurance", FraudResult.ImageStatus.GENUINE, score, 1));
+        }
+        distributionService.reload();
+
+        Map<String, Object> overall = overall();
+        assertEquals(100L, overall.get("count"));
+        assertEquals(50, overall.get("p50"));
+        assertEquals(90, overall.get("p90"));
+        assertEquals(99, overall.get("p99"));
+    }
+
+    @Test
+    void skewedDistributionPutsHighPercentilesInTheTail() {
+        rows.add(row("Auto Insurance", FraudResult.ImageStatus.GENUINE, 10, 95));
+        rows.add(row("Auto Insurance", FraudResult.ImageStatus.FRAUD, 90, 5));
+        distributionService.reload();
+
+        Map<String, Object> overall = overall();
+        assertEquals(10, overall.get("p50"));
+        assertEquals(10, overall.get("p90"));
+        assertEquals(90, overall.get("p99"));
+    }
+
+    @Test
+    void smallCountsRoundTheRankUp() {
+        rows.add(row("Home Insurance", FraudResult.ImageStatus.GENUINE, 20, 1));
+        rows.add(row("Home Insurance", FraudResult.ImageStatus.SUSPICIOUS, 60, 1));
+        rows.add(row("Home Insurance", FraudResult.ImageStatus.FRAUD, 80, 1));
+        distributionService.reload();
+
+        // Ranks: p50 -> 2nd, p90 and p99 -> 3rd of 3
+        Map<String, Object> overall = overall();
+        assertEquals(60, overall.get("p50"));
+        assertEquals(80, overall.get("p90"));
+        assertEquals(80, overall.get("p99"));
+    }
+
+    @Test
+    void emptyHistogramHasNoPercentiles() {
+        distributionService.reload();
+
+        Map<String, Object> overall = overall();
+        assertEquals(0L, overall.get("count"));
+        assertNull(overall.get("p50"));
+        assertNull(overall.get("p99"));
+    }
+
+    @Test
+    void savesReplacementsAndDeletesKeepEveryHistogramInStep() {
+        distributionService.reload();
+        distributionService.recordSaved("Auto Insurance", null, null, FraudResult.ImageStatus.GENUINE, 10);
+        distributionService.recordSaved("Auto Insurance", null, null, FraudResult.ImageStatus.GENUINE, 20);
+        // The second result is re-analysed and now looks fraudulent
+        distributionService.recordSaved("Auto Insurance", FraudResult.ImageStatus.GENUINE, 20,
+                FraudResult.ImageStatus.FRAUD, 95);
+        distributionService.recordSaved(null, null, null, FraudResult.ImageStatus.SUSPICIOUS, 150);
+        distributionService.recordDeleted("Auto Insurance", FraudResult.ImageStatus.GENUINE, 10);
+
+        Map<String, Object> distribution = distributionService.getDistribution();
+        assertEquals(2L, overall().get("count"));
+        assertEquals(100, overall().get("p99"));
+        assertEquals(1L, summary(distribution, "byClaimType", "Auto Insurance").get("count"));
+        assertEquals(95, summary(distribution, "byClaimType", "Auto Insurance").get("p50"));
+        // No claim type and an out-of-range score still land somewhere sensible
+        assertEquals(1L, summary(distribution, "byClaimType", "Unknown").get("count"));
+        assertEquals(0L, summary(distribution, "byImageStatus", "GENUINE").get("count"));
+        assertEquals(1L, summary(distribution, "byImageStatus", "FRAUD").get("count"));
+        assertEquals(100, summary(distribution, "byImageStatus", "SUSPICIOUS").get("p50"));
+    }
+
+    private Map<String, Object> overall() {
+        return summary(distributionService.getDistribution(), "overall", null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> summary(Map<String, Object> distribution, String group, String key) {
+        Object value = distribution.get(group);
+        return (Map<String, Object>) (key == null ? value : ((Map<String, Object>) value).get(key));
+    }
+
+    private static Object[] row(String claimType, FraudResult.ImageStatus status, int score, long count) {
+        return new Object[] { claimType, status, score, count };
+    }
+}
@@ -0,0 +1,125 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.FraudAnalysisDTO;
+import com.examly.springapp.model.Claim;
+import com.examly.springapp.model.ClaimDocument;
+import com.examly.springapp.model.FraudImageResult;
+import com.examly.springapp.model.FraudResult;
+import com.examly.springapp.repository.FraudImageResultRepository;
+import com.examly.springapp.repository.FraudResultRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FraudServiceTest {
+
+    private final FraudResultRepository fraudResultRepository = mock(FraudResultRepository.class);
+    private final FraudImageResultRepository fraudImageResultRepository = mock(FraudImageResultRepository.class);
+    private final AiResultCache aiResultCache = mock(AiResultCache.class);
+    private final FraudScoreDistributionService distributionService = mock(FraudScoreDistributionService.class);
+    private final AiCallExecutor aiCallExecutor = new AiCallExecutor(4, 4, 4);
+    private final Map<ClaimDocument, Path> images = new LinkedHashMap<>();
+    private final Claim claim = new Claim();
+    private FraudService fraudService;
+
+    @BeforeEach
+    void setUp() {
+        fraudService = new FraudService(fraudResultRepository, new ObjectMapper(), aiResultCache,
+                mock(AiServiceClient.class), aiCallExecutor, fraudImageResultRepository,
+                mock(PlatformTransactionManager.class), mock(FraudStatisticsService.class), distributionService);
+        ReflectionTestUtils.setField(fraudService, "maxConcurrentImages", 4);
+        claim.setId(7L);
+        when(fraudResultRepository.findByClaimId(7L)).thenReturn(Optional.of(new FraudResult()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiCallExecutor.shutdown();
+    }
+
+    @Test
+    void failedImagesAreLeftOutOfTheAggregateAndMarkItIncomplete() {
+        image("front.jpg", analysis("GENUINE", 10, 90));
+        image("rear.jpg", null);
+        image("side.jpg", analysis("GENUINE", 20, 80));
+
+        fraudService.analyzeClaimImages(claim, images);
+
+        // The placeholder's SUSPICIOUS/50 would otherwise become the claim's verdict
+        ArgumentCaptor<String> remarks = ArgumentCaptor.forClass(String.class);
+        verify(fraudResultRepository).upsert(eq(7L), eq("GENUINE"), eq(20), anyInt(), remarks.capture(), any(),
+                any(), eq(true));
+        assertTrue(remarks.getValue().startsWith("1 of 3 images could not be analysed"));
+        verify(distributionService).recordSaved(any(), any(), any(), eq(FraudResult.ImageStatus.GENUINE), eq(20));
+
+        // The breakdown still lists the failed image, flagged for manual review
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FraudImageResult>> saved = ArgumentCaptor.forClass(List.class);
+        verify(fraudImageResultRepository).saveAll(saved.capture());
+        assertEquals(3, saved.getValue().size());
+        assertEquals(FraudResult.ImageStatus.SUSPICIOUS, saved.getValue().get(1).getImageStatus());
+    }
+
+    @Test
+    void fullyAnalysedClaimIsComplete() {
+        image("front.jpg", analysis("FRAUD", 90, 70));
+        image("rear.jpg", analysis("GENUINE", 10, 90));
+
+        fraudService.analyzeClaimImages(claim, images);
+
+        verify(fraudResultRepository).upsert(eq(7L), eq("FRAUD"), eq(90), anyInt(), anyString(), any(), any(),
+                eq(false));
+    }
+
+    @Test
+    void claimWhoseImagesAllFailSavesNothing() {
+        image("front.jpg", null);
+        image("rear.jpg", null);
+
+        assertThrows(RuntimeException.class, () -> fraudService.analyzeClaimImages(claim, images));
+
+        verify(fraudResultRepository, never()).upsert(anyLong(), any(), any(), any(), any(), any(), any(),
+                anyBoolean());
+        verify(distributionService, never()).recordSaved(any(), any(), any(), any(), anyInt());
+    }
+
+    private void image(String name, FraudAnalysisDTO analysis) {
+        Path path = Path.of("/uploads", name);
+        images.put(new ClaimDocument(claim, name, "/files/" + name, "image/jpeg"), path);
+        when(aiResultCache.getOrCompute(eq(path), eq("/api/analyze"), any(), eq(FraudAnalysisDTO.class), any()))
+                .thenReturn(analysis);
+    }
+
+    private static FraudAnalysisDTO analysis(String status, int score, int confidence) {
+        FraudAnalysisDTO analysis = new FraudAnalysisDTO();
+        analysis.setImageStatus(status);
+        analysis.setFraudScore(score);
+        analysis.setConfidence(confidence);
+        analysis.setRemarks(status.toLowerCase());
+        return analysis;
+    }
+}
@@ -0,0 +1,111 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ValidationJobDTO;
+import com.examly.springapp.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ValidationJobServiceTest {
+
+    private final EvidenceValidationService evidenceValidationService = mock(EvidenceValidationService.class);
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger runs = new AtomicInteger();
+    private ValidationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        when(claimRepository.existsById(anyLong())).thenReturn(true);
+        // The first validation blocks until released; later ones return at once
+        doAnswer(invocation -> {
+            if (runs.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(evidenceValidationService).validateClaimEvidence(anyLong());
+        service = new ValidationJobService(evidenceValidationService, claimRepository, 1, 10, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void submitWhileQueuedJoinsTheQueuedJob() throws Exception {
+        ValidationJobDTO running = service.submit(1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // The only worker is busy, so claim 2's job stays queued
+        ValidationJobDTO queued = service.submit(2L);
+        ValidationJobDTO again = service.submit(2L);
+
+        assertEquals("QUEUED", queued.getStatus());
+        assertEquals(queued.getId(), again.getId());
+        assertNotEquals(running.getId(), queued.getId());
+    }
+
+    @Test
+    void submitWhileRunningQueuesOneFollowUpThatRunsAfterwards() throws Exception {
+        ValidationJobDTO first = service.submit(1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ValidationJobDTO followUp = service.submit(1L);
+        ValidationJobDTO sameFollowUp = service.submit(1L);
+
+        assertNotEquals(first.getId(), followUp.getId());
+        assertEquals(followUp.getId(), sameFollowUp.getId());
+        assertEquals("QUEUED", followUp.getStatus());
+
+        release.countDown();
+        assertEquals("SUCCEEDED", awaitFinished(first.getId()));
+        assertEquals("SUCCEEDED", awaitFinished(followUp.getId()));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void submitAfterFinishStartsANewJob() throws Exception {
+        release.countDown();
+        ValidationJobDTO first = service.submit(1L);
+        assertEquals("SUCCEEDED", awaitFinished(first.getId()));
+
+        ValidationJobDTO second = service.submit(1L);
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals("SUCCEEDED", awaitFinished(second.getId()));
+    }
+
+    @Test
+    void submitForMissingClaimFails() {
+        when(claimRepository.existsById(99L)).thenReturn(false);
+        assertThrows(NoSuchElementException.class, () -> service.submit(99L));
+    }
+
+    private String awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            String status = service.getJob(jobId).orElseThrow().getStatus();
+            if (status.equals("SUCCEEDED") || status.equals("FAILED")) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish");
+    }
+}
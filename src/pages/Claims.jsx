@@ -135,10 +135,10 @@ const Claims = () => {
                 <td className="p-4 font-mono font-medium text-sm text-gray-800">{claim.policyNumber}</td>
                 {isAgent && (
                   <td className="p-4 text-gray-600 text-sm">
-                    {claim.customer?.name || claim.customer?.email || '—'}
+                    {claim.customerName || '—'}
                   </td>
                 )}
-                <td className="p-4 text-sm text-gray-700">{claim.claimType?.name || '—'}</td>
+                <td className="p-4 text-sm text-gray-700">{claim.claimTypeName || '—'}</td>
                 <td className="p-4 font-semibold text-gray-900">₹{claim.amount?.toLocaleString()}</td>
                 <td className="p-4"><StatusBadge status={claim.status} /></td>
                 <td className="p-4 text-sm text-gray-500">
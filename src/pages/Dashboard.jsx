@@ -145,7 +145,7 @@ const Dashboard = () => {
                 <React.Fragment key={claim.id}>
                   <tr className="border-b border-gray-50 last:border-0 hover:bg-gray-50">
                     <td className="py-4 font-medium text-gray-800">{claim.policyNumber}</td>
-                    <td className="py-4 text-gray-600">{claim.claimType?.name || '-'}</td>
+                    <td className="py-4 text-gray-600">{claim.claimTypeName || '-'}</td>
                     <td className="py-4 text-gray-600">₹{claim.amount}</td>
                     <td className="py-4">
                       <span className={`px-3 py-1 rounded-full text-xs font-medium 